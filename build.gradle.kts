@@ -81,6 +81,14 @@ sourceSets {
     }
 }
 
+// Vectorized light kernel, the only sources requiring the incubating Vector API, loaded when available at runtime
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+sourceSets.test {
+    runtimeClasspath += vector.output
+}
+
 dependencies {
     // Core dependencies
     api(libs.slf4j)
@@ -93,17 +101,31 @@ dependencies {
     implementation(libs.bundles.flare)
     api(libs.gson)
     implementation(libs.jcTools)
+    // Optional, only required to read or write LZ4 compressed region files
+    compileOnly(libs.lz4)
 
     // Testing
     testImplementation(libs.bundles.junit)
     testImplementation(project(":testing"))
+    testImplementation(libs.lz4)
 }
 
 tasks {
+    named<JavaCompile>(vector.compileJavaTaskName) {
+        options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+    }
+    test {
+        // Exercise the vectorized light propagation
+        jvmArgs("--add-modules=jdk.incubator.vector")
+    }
     jar {
         manifest {
             attributes("Automatic-Module-Name" to "net.minestom.server")
         }
+        from(vector.output)
+    }
+    named<Jar>("sourcesJar") {
+        from(vector.allSource)
     }
     withType<Javadoc> {
         (options as? StandardJavadocDocletOptions)?.apply {
@@ -0,0 +1,59 @@
+package net.minestom.server.thread;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * A lower tick thread acquired inside the acquisition of a higher one, while another thread holds the lower one.
+ * The outer acquisition must stay exclusive.
+ */
+@JCStressTest
+@Outcome(id = "2", expect = ACCEPTABLE)
+@Outcome(id = "1", expect = FORBIDDEN, desc = "The outer lock was released by the nested acquisition")
+@State
+public class AcquirableNestedTest {
+    private final TickThread lower = new TickThread("lower");
+    private final TickThread higher = new TickThread("higher");
+    private int counter;
+
+    @Actor
+    public void nested() {
+        final Thread currentThread = Thread.currentThread();
+        ReentrantLock outerLock = AcquirableImpl.enter(currentThread, higher);
+        try {
+            final int value = counter;
+            ReentrantLock innerLock = AcquirableImpl.enter(currentThread, lower);
+            AcquirableImpl.leave(innerLock);
+            counter = value + 1;
+        } finally {
+            AcquirableImpl.leave(outerLock);
+        }
+    }
+
+    @Actor
+    public void outer() {
+        ReentrantLock lock = AcquirableImpl.enter(Thread.currentThread(), higher);
+        try {
+            counter++;
+        } finally {
+            AcquirableImpl.leave(lock);
+        }
+    }
+
+    @Actor
+    public void holder() {
+        // Makes the nested acquisition wait
+        ReentrantLock lock = AcquirableImpl.enter(Thread.currentThread(), lower);
+        AcquirableImpl.leave(lock);
+    }
+
+    @Arbiter
+    public void arbiter(I_Result r) {
+        r.r1 = counter;
+    }
+}
@@ -0,0 +1,60 @@
+package net.minestom.server.thread;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two threads acquiring the same tick threads in opposite orders, must neither deadlock nor overlap.
+ * The counter is read within the outer acquisition only, so it must stay exclusive while acquiring the inner one.
+ */
+@JCStressTest
+@Outcome(id = "2, 0", expect = ACCEPTABLE)
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "The out of order acquisition failed, waited by the other thread")
+@Outcome(id = "1, 0", expect = FORBIDDEN, desc = "The outer lock was released by the nested acquisition")
+@State
+public class AcquirableOrderTest {
+    private final TickThread first = new TickThread("first");
+    private final TickThread second = new TickThread("second");
+    private int counter;
+    private int failures;
+
+    @Actor
+    public void actor1() {
+        increment(first, second);
+    }
+
+    @Actor
+    public void actor2() {
+        increment(second, first);
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r1 = counter;
+        r.r2 = failures;
+    }
+
+    private void increment(TickThread outer, TickThread inner) {
+        final Thread currentThread = Thread.currentThread();
+        ReentrantLock outerLock = AcquirableImpl.enter(currentThread, outer);
+        try {
+            final int value = counter;
+            ReentrantLock innerLock;
+            try {
+                innerLock = AcquirableImpl.enter(currentThread, inner);
+            } catch (IllegalStateException e) {
+                failures++;
+                return;
+            }
+            AcquirableImpl.leave(innerLock);
+            counter = value + 1;
+        } finally {
+            AcquirableImpl.leave(outerLock);
+        }
+    }
+}
@@ -4,6 +4,11 @@ plugins {
 
 dependencies {
     jmhImplementation(rootProject)
+    jmhImplementation(libs.lz4)
     jmh(libs.jmh.core)
     jmhAnnotationProcessor(libs.jmh.annotationprocessor)
 }
+
+jmh {
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+}
@@ -0,0 +1,78 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sweeps 1k bounding boxes walking and falling over the terrain, with or without the section occupancy
+ * of {@link ChunkCache#collisionOccupancy(int, int, int)}.
+ * <p>
+ * "flat" is a stone floor, "cluttered" scatters fences, slabs, grass and full blocks over it.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BlockCollisionBenchmark {
+    private static final int ENTITIES = 1_000;
+    private static final BoundingBox BOUNDING_BOX = new BoundingBox(0.6, 1.8, 0.6);
+    private static final Block[] CLUTTER = {Block.OAK_FENCE, Block.STONE_SLAB, Block.SHORT_GRASS, Block.DIRT, Block.COBBLESTONE_WALL};
+
+    @Param({"flat", "cluttered"})
+    public String terrain;
+
+    @Param({"false", "true"})
+    public boolean occupancy;
+
+    private Block.Getter getter;
+    private final Pos[] positions = new Pos[ENTITIES];
+    private final Vec[] velocities = new Vec[ENTITIES];
+
+    @Setup
+    public void setup() {
+        MinecraftServer.updateProcess();
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        final boolean cluttered = terrain.equals("cluttered");
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(0, 40, Block.STONE);
+            if (!cluttered) return;
+            final Random random = new Random(unit.absoluteStart().chunkX() * 31L + unit.absoluteStart().chunkZ());
+            for (int i = 0; i < 64; i++) {
+                unit.modifier().setBlock(unit.absoluteStart().add(random.nextInt(16), 40, random.nextInt(16)),
+                        CLUTTER[random.nextInt(CLUTTER.length)]);
+            }
+        });
+        for (int x = -4; x < 4; x++) {
+            for (int z = -4; z < 4; z++) instance.loadChunk(x, z).join();
+        }
+
+        ChunkCache chunkCache = new ChunkCache(instance, instance.getChunk(0, 0), Block.STONE);
+        // Hides the occupancy, every block is resolved
+        this.getter = occupancy ? chunkCache : (x, y, z, condition) -> chunkCache.getBlock(x, y, z, condition);
+
+        Random random = new Random(0);
+        for (int i = 0; i < ENTITIES; i++) {
+            positions[i] = new Pos(random.nextDouble(-60, 60), 41 + random.nextDouble(0, 2), random.nextDouble(-60, 60));
+            velocities[i] = new Vec(random.nextDouble(-0.3, 0.3), -0.08, random.nextDouble(-0.3, 0.3));
+        }
+    }
+
+    @Benchmark
+    public void sweep(Blackhole blackhole) {
+        final Block.Getter getter = this.getter;
+        for (int i = 0; i < ENTITIES; i++) {
+            blackhole.consume(CollisionUtils.handlePhysics(getter, BOUNDING_BOX, positions[i], velocities[i], null, false));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the entity collisions of 100 fast arrows crossing a crowd, as in arrow-heavy PvP.
+ * <p>
+ * The cost should follow the number of entities along the arrow paths rather than the crowd size.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EntityCollisionBenchmark {
+    private static final int ARROWS = 100;
+    private static final BoundingBox ARROW_BOX = new BoundingBox(0.5, 0.5, 0.5);
+
+    @Param({"100", "1000"})
+    public int crowd;
+
+    @Param({"chunks", "grid"})
+    public String tracker;
+
+    private InstanceContainer instance;
+    private final Pos[] positions = new Pos[ARROWS];
+    private final Vec[] velocities = new Vec[ARROWS];
+
+    @Setup
+    public void setup() {
+        MinecraftServer.updateProcess();
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        if (tracker.equals("grid")) instance.setEntityTracker(EntityTracker.newGridTracker(8));
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -4; x < 4; x++) {
+            for (int z = -4; z < 4; z++) instance.loadChunk(x, z).join();
+        }
+
+        Random random = new Random(0);
+        for (int i = 0; i < crowd; i++) {
+            Entity entity = new Entity(EntityType.ZOMBIE);
+            entity.setNoGravity(true);
+            entity.setInstance(instance, new Pos(random.nextDouble(-24, 24), 40, random.nextDouble(-24, 24))).join();
+        }
+        for (int i = 0; i < ARROWS; i++) {
+            positions[i] = new Pos(random.nextDouble(-24, 24), 41, random.nextDouble(-24, 24));
+            // Up to 3 blocks per tick
+            velocities[i] = new Vec(random.nextDouble(-1, 1), 0, random.nextDouble(-1, 1)).normalize().mul(3);
+        }
+    }
+
+    @Benchmark
+    public void checkCollisions(Blackhole blackhole) {
+        for (int i = 0; i < ARROWS; i++) {
+            blackhole.consume(CollisionUtils.checkEntityCollisions(instance, ARROW_BOX, positions[i], velocities[i],
+                    1.51, entity -> true, null));
+        }
+    }
+}
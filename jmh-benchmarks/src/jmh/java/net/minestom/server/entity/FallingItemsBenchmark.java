@@ -0,0 +1,69 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks 10k items falling over 16x16 chunks, with or without {@link PhysicsBatch}.
+ * <p>
+ * Landed items are thrown back up between invocations so that most of them are always falling.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FallingItemsBenchmark {
+    private static final int ITEMS = 10_000;
+
+    @Param({"false", "true"})
+    public String batching;
+
+    private final List<ItemEntity> items = new ArrayList<>(ITEMS);
+
+    @Setup
+    public void setup() {
+        // Read once by the server process, each parameter runs in its own fork
+        System.setProperty("minestom.physics-batching", batching);
+        MinecraftServer.updateProcess();
+
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -8; x < 8; x++) {
+            for (int z = -8; z < 8; z++) instance.loadChunk(x, z).join();
+        }
+
+        Random random = new Random(0);
+        for (int i = 0; i < ITEMS; i++) {
+            ItemEntity item = new ItemEntity(ItemStack.of(Material.STONE));
+            item.setMergeable(false);
+            item.setInstance(instance, new Pos(random.nextDouble(-120, 120), 40 + random.nextDouble(20, 200),
+                    random.nextDouble(-120, 120))).join();
+            items.add(item);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void throwLanded() {
+        for (ItemEntity item : items) {
+            if (item.isOnGround()) item.setVelocity(new Vec(1, 20, 1));
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        MinecraftServer.process().ticker().tick(System.nanoTime());
+    }
+}
@@ -0,0 +1,95 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.pathfinding.generators.GroundNodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes a zombie path across a 41x41 area, either open ground or a maze with walls too high to jump.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathfindingBenchmark {
+    private static final int SIZE = 41;
+    private static final int FLOOR = 39;
+    private static final int WALL_HEIGHT = 3;
+    private static final BoundingBox BOUNDING_BOX = new BoundingBox(0.6, 1.95, 0.6);
+
+    @Param({"open", "maze"})
+    public String terrain;
+
+    private Terrain getter;
+    private GroundNodeGenerator generator;
+    private Pos start;
+    private Vec target;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.updateProcess();
+        final boolean[][] walls = new boolean[SIZE][SIZE];
+        if (terrain.equals("maze")) carveMaze(walls, new Random(42));
+        this.getter = new Terrain(walls);
+        this.generator = new GroundNodeGenerator();
+        this.start = new Pos(1.5, FLOOR + 1, 1.5);
+        this.target = new Vec(SIZE - 1.5, FLOOR + 1, SIZE - 1.5);
+    }
+
+    @Benchmark
+    public PPath path() {
+        return PathGenerator.generate(getter, start, target, 1, 200, 1000,
+                BOUNDING_BOX, true, generator, null);
+    }
+
+    /**
+     * Depth first maze, cells on odd coordinates and walls everywhere else.
+     */
+    private static void carveMaze(boolean[][] walls, Random random) {
+        for (boolean[] row : walls) Arrays.fill(row, true);
+        final int[][] directions = {{2, 0}, {-2, 0}, {0, 2}, {0, -2}};
+        final Deque<int[]> stack = new ArrayDeque<>();
+        walls[1][1] = false;
+        stack.push(new int[]{1, 1});
+        while (!stack.isEmpty()) {
+            final int[] cell = stack.peek();
+            final int offset = random.nextInt(4);
+            boolean carved = false;
+            for (int i = 0; i < 4; i++) {
+                final int[] direction = directions[(offset + i) & 3];
+                final int x = cell[0] + direction[0], z = cell[1] + direction[1];
+                if (x <= 0 || z <= 0 || x >= SIZE - 1 || z >= SIZE - 1 || !walls[x][z]) continue;
+                walls[cell[0] + direction[0] / 2][cell[1] + direction[1] / 2] = false;
+                walls[x][z] = false;
+                stack.push(new int[]{x, z});
+                carved = true;
+                break;
+            }
+            if (!carved) stack.pop();
+        }
+    }
+
+    private record Terrain(boolean[][] walls) implements Block.Getter {
+        @Override
+        public @UnknownNullability Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+            if (y == FLOOR) return Block.STONE;
+            if (y < FLOOR || y > FLOOR + WALL_HEIGHT) return Block.AIR;
+            if (x < 0 || z < 0 || x >= SIZE || z >= SIZE) return Block.STONE;
+            return walls[x][z] ? Block.STONE : Block.AIR;
+        }
+    }
+}
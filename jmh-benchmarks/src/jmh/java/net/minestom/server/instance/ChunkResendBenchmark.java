@@ -0,0 +1,62 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.world.DimensionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the chunk data packet sent to a new viewer after a single block change, in a chunk with varied sections.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ChunkResendBenchmark {
+    private static final Block[] BLOCKS = {
+            Block.STONE, Block.DIRT, Block.GRASS_BLOCK, Block.GRAVEL, Block.SAND, Block.ANDESITE,
+            Block.GRANITE, Block.DIORITE, Block.COAL_ORE, Block.IRON_ORE, Block.WATER, Block.OAK_LOG
+    };
+
+    /**
+     * "block" only invalidates the modified section, "full" invalidates the whole chunk as before per section caching.
+     */
+    @Param({"block", "full"})
+    public String invalidation;
+
+    private Chunk chunk;
+    private CachedPacket packet;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.updateProcess();
+        InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD);
+        instance.setGenerator(unit -> {
+            final Random random = new Random(unit.absoluteStart().hashCode());
+            unit.modifier().setAll((x, y, z) -> y < 128 ? BLOCKS[random.nextInt(BLOCKS.length)] : Block.AIR);
+        });
+        this.chunk = instance.loadChunk(0, 0).join();
+        this.packet = (CachedPacket) chunk.getFullDataPacket();
+        packet.body(ConnectionState.PLAY);
+    }
+
+    @Benchmark
+    public void resend(Blackhole blackhole) {
+        final Block block = BLOCKS[counter++ % BLOCKS.length];
+        synchronized (chunk) {
+            chunk.setBlock(3, 40, 7, block);
+        }
+        if (invalidation.equals("full")) chunk.invalidate();
+        blackhole.consume(packet.body(ConnectionState.PLAY));
+    }
+}
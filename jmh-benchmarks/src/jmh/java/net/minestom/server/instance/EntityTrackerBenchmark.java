@@ -0,0 +1,93 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the chunk and grid trackers with 5000 entities crowding a 2x2 chunks area.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EntityTrackerBenchmark {
+    private static final int ENTITIES = 5000;
+    private static final double AREA = 32;
+
+    @Param({"chunk", "grid"})
+    public String tracker;
+
+    private EntityTracker entityTracker;
+    private Entity[] entities;
+    private Vec[] positions;
+    private Random random;
+
+    private final EntityTracker.Update<Entity> update = new EntityTracker.Update<>() {
+        @Override
+        public void add(@NotNull Entity entity) {
+            // Empty
+        }
+
+        @Override
+        public void remove(@NotNull Entity entity) {
+            // Empty
+        }
+    };
+
+    @Setup
+    public void setup() {
+        MinecraftServer.updateProcess();
+        this.entityTracker = tracker.equals("grid") ? EntityTracker.newGridTracker(8) : EntityTracker.newTracker();
+        this.random = new Random(42);
+        this.entities = new Entity[ENTITIES];
+        this.positions = new Vec[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            final Entity entity = new Entity(EntityType.ZOMBIE);
+            final Vec position = new Vec(random.nextDouble() * AREA, 40, random.nextDouble() * AREA);
+            entityTracker.register(entity, position, EntityTracker.Target.ENTITIES, null);
+            entities[i] = entity;
+            positions[i] = position;
+        }
+    }
+
+    /**
+     * Moves every entity by a small step, crossing chunk borders from time to time.
+     */
+    @Benchmark
+    public void move() {
+        for (int i = 0; i < ENTITIES; i++) {
+            Vec position = positions[i].add(random.nextDouble() - 0.5, 0, random.nextDouble() - 0.5);
+            if (position.x() < 0 || position.x() >= AREA || position.z() < 0 || position.z() >= AREA) {
+                position = positions[i];
+            }
+            positions[i] = position;
+            entityTracker.move(entities[i], position, EntityTracker.Target.ENTITIES, null);
+        }
+    }
+
+    @Benchmark
+    public void nearby(Blackhole blackhole) {
+        final Vec center = new Vec(random.nextDouble() * AREA, 40, random.nextDouble() * AREA);
+        entityTracker.nearbyEntities(center, 4, EntityTracker.Target.ENTITIES, blackhole::consume);
+    }
+
+    /**
+     * Moves an entity back and forth across a chunk border, the edge of its view entering and leaving the crowd.
+     */
+    @Benchmark
+    public void difference() {
+        final Entity entity = entities[0];
+        entityTracker.move(entity, new Vec(-63, 40, 8), EntityTracker.Target.ENTITIES, update);
+        entityTracker.move(entity, new Vec(-65, 40, 8), EntityTracker.Target.ENTITIES, update);
+    }
+}
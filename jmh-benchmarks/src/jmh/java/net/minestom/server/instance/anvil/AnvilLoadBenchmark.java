@@ -0,0 +1,79 @@
+package net.minestom.server.instance.anvil;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.IChunkLoader;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.world.DimensionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Loads 8x8 chunks from a world with varied sections, including the block decoding into the chunk palettes.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AnvilLoadBenchmark {
+    private static final int AREA = 8;
+    private static final Block[] BLOCKS = {
+            Block.STONE, Block.DIRT, Block.GRASS_BLOCK, Block.GRAVEL, Block.SAND, Block.ANDESITE,
+            Block.GRANITE, Block.DIORITE, Block.COAL_ORE, Block.IRON_ORE, Block.WATER, Block.OAK_LOG
+    };
+
+    private Path directory;
+    private InstanceContainer instance;
+    private IChunkLoader loader;
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.updateProcess();
+        this.directory = Files.createTempDirectory("minestom-anvil-bench");
+
+        // Generate and save the world
+        InstanceContainer source = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, new AnvilLoader(directory));
+        source.setGenerator(unit -> {
+            final Random random = new Random(unit.absoluteStart().hashCode());
+            unit.modifier().setAll((x, y, z) -> y < 64 ? BLOCKS[random.nextInt(BLOCKS.length)] : Block.AIR);
+        });
+        List<Chunk> chunks = new ArrayList<>();
+        for (int x = 0; x < AREA; x++) {
+            for (int z = 0; z < AREA; z++) chunks.add(source.loadChunk(x, z).join());
+        }
+        source.getChunkLoader().saveChunks(chunks);
+
+        this.loader = new AnvilLoader(directory);
+        this.instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, loader);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void loadChunks(Blackhole blackhole) {
+        for (int x = 0; x < AREA; x++) {
+            for (int z = 0; z < AREA; z++) {
+                blackhole.consume(loader.loadChunk(instance, x, z));
+            }
+        }
+    }
+}
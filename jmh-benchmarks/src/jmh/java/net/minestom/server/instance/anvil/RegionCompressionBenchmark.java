@@ -0,0 +1,96 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Saves and loads a full region with each chunk compression, the region size is reported as an aux counter.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RegionCompressionBenchmark {
+    private static final int REGION_SIZE = 32;
+
+    @Param({"ZLIB", "LZ4", "NONE"})
+    public RegionCompression compression;
+
+    private Path directory;
+    private RegionFile regionFile;
+    private CompoundBinaryTag[] chunks;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long regionBytes;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("minestom-region-compression-bench");
+        this.regionFile = new RegionFile(directory.resolve(RegionFile.getFileName(0, 0)), compression);
+        Random random = new Random(0);
+        this.chunks = new CompoundBinaryTag[REGION_SIZE * REGION_SIZE];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = chunkData(random);
+            regionFile.writeChunkData(i & 31, i >> 5, chunks[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        regionFile.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void save(Size size) throws IOException {
+        for (int i = 0; i < chunks.length; i++) {
+            regionFile.writeChunkData(i & 31, i >> 5, chunks[i]);
+        }
+        size.regionBytes = Files.size(directory.resolve(RegionFile.getFileName(0, 0)));
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < chunks.length; i++) {
+            blackhole.consume(regionFile.readChunkData(i & 31, i >> 5));
+        }
+    }
+
+    private static CompoundBinaryTag chunkData(Random random) {
+        // Lobby-like terrain, few distinct states per section
+        ListBinaryTag.Builder<CompoundBinaryTag> sections = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+        for (int y = -4; y < 20; y++) {
+            long[] states = new long[256];
+            for (int i = 0; i < states.length; i++) {
+                states[i] = y < 4 ? random.nextLong() & 0x1111111111111111L : 0;
+            }
+            sections.add(CompoundBinaryTag.builder()
+                    .putByte("Y", (byte) y)
+                    .put("block_states", CompoundBinaryTag.builder().putLongArray("data", states).build())
+                    .putByteArray("SkyLight", new byte[2048])
+                    .build());
+        }
+        return CompoundBinaryTag.builder()
+                .putString("status", "minecraft:full")
+                .put("sections", sections.build())
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Reads every chunk of a full 32x32 chunks region, using one virtual thread per chunk.
+ * <p>
+ * The score is in regions per second, multiply by 1024 to get chunks per second.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RegionLoadBenchmark {
+    private static final int REGION_SIZE = 32;
+
+    @Param({"1", "16", "1024"})
+    public int parallelism;
+
+    private Path directory;
+    private RegionFile regionFile;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("minestom-region-bench");
+        this.regionFile = new RegionFile(directory.resolve(RegionFile.getFileName(0, 0)));
+        for (int x = 0; x < REGION_SIZE; x++) {
+            for (int z = 0; z < REGION_SIZE; z++) {
+                regionFile.writeChunkData(x, z, chunkData(x, z));
+            }
+        }
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        regionFile.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void loadRegion(Blackhole blackhole) throws Exception {
+        final int perTask = REGION_SIZE * REGION_SIZE / parallelism;
+        Future<?>[] futures = new Future[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            final int start = i * perTask;
+            futures[i] = executor.submit(() -> {
+                for (int index = start; index < start + perTask; index++) {
+                    blackhole.consume(regionFile.readChunkData(index & 31, index >> 5));
+                }
+                return null;
+            });
+        }
+        for (Future<?> future : futures) future.get();
+    }
+
+    private static CompoundBinaryTag chunkData(int chunkX, int chunkZ) {
+        // Roughly the size of a compressed overworld chunk
+        ListBinaryTag.Builder<CompoundBinaryTag> sections = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+        for (int y = -4; y < 20; y++) {
+            long[] states = new long[256];
+            for (int i = 0; i < states.length; i++) states[i] = ThreadLocalRandom.current().nextLong(16);
+            sections.add(CompoundBinaryTag.builder()
+                    .putByte("Y", (byte) y)
+                    .put("block_states", CompoundBinaryTag.builder().putLongArray("data", states).build())
+                    .build());
+        }
+        return CompoundBinaryTag.builder()
+                .putInt("xPos", chunkX)
+                .putInt("zPos", chunkZ)
+                .putString("status", "minecraft:full")
+                .put("sections", sections.build())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package net.minestom.server.instance.light;
+
+import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and vectorized propagation of sky light through a section with scattered blocks.
+ */
+@Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LightComputeBenchmark {
+
+    @Param({"scalar", "vector"})
+    public String implementation;
+
+    @Param({"0.05", "0.3"})
+    public float density;
+
+    private Palette palette;
+    private int[] heightmap;
+    private byte[] content1, content2;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        this.palette = Palette.blocks();
+        palette.setAll((x, y, z) -> random.nextFloat() < density ? Block.STONE.stateId() : Block.AIR.stateId());
+        this.heightmap = new int[16 * 16];
+        for (int i = 0; i < heightmap.length; i++) heightmap[i] = random.nextInt(16);
+
+        this.content1 = new byte[LightCompute.LIGHT_LENGTH];
+        this.content2 = new byte[LightCompute.LIGHT_LENGTH];
+        random.nextBytes(content1);
+        random.nextBytes(content2);
+    }
+
+    @Benchmark
+    public byte[] skyFallThrough() {
+        final ShortArrayFIFOQueue queue = SkyLight.buildInternalQueue(heightmap, 15, 0);
+        return implementation.equals("vector") ?
+                LightCompute.VECTOR.compute(palette, queue) : LightCompute.computeScalar(palette, queue);
+    }
+
+    @Benchmark
+    public byte[] bake() {
+        return implementation.equals("vector") ?
+                LightCompute.VECTOR.bake(content1, content2) : LightCompute.bakeScalar(content1, content2);
+    }
+}
@@ -0,0 +1,60 @@
+package net.minestom.server.instance.light;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.world.DimensionType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relights a 16x16 chunks area after filling it with stone, glowstone and air pockets.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RelightBenchmark {
+    private static final int AREA = 16;
+
+    @Param({"caller", "pool"})
+    public String executor;
+
+    private InstanceContainer instance;
+    private List<Chunk> chunks;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.updateProcess();
+        this.instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD);
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(0, 60, Block.STONE);
+            // Caves and light sources, so that propagation crosses sections
+            unit.modifier().fill(unit.absoluteStart().withY(20), unit.absoluteEnd().withY(40), Block.AIR);
+            unit.modifier().setBlock(unit.absoluteStart().add(8, 30, 8), Block.GLOWSTONE);
+        });
+        if (executor.equals("caller")) instance.setLightingExecutor(Runnable::run);
+
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = 0; x < AREA; x++) {
+            for (int z = 0; z < AREA; z++) futures.add(instance.loadChunk(x, z));
+        }
+        this.chunks = futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @Benchmark
+    public void relight(Blackhole blackhole) {
+        blackhole.consume(LightingChunk.relight(instance, chunks));
+    }
+}
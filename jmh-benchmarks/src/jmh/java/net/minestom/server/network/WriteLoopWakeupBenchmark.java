@@ -0,0 +1,119 @@
+package net.minestom.server.network;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the half tick sleep write loop with the signaled one used by {@code PlayerSocketConnection}.
+ * <p>
+ * Each invocation queues a packet for every connection and waits until all writers picked it up,
+ * sample mode gives the latency percentiles and the aux counter the writer wakeups.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class WriteLoopWakeupBenchmark {
+    private static final long SLEEP_MS = 1000 / 20 / 2;
+    private static final long PARK_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Param({"sleep", "signal"})
+    public String strategy;
+
+    @Param({"1", "500"})
+    public int connections;
+
+    private Writer[] writers;
+    private volatile boolean running;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long wakeups;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.running = true;
+        final boolean signal = strategy.equals("signal");
+        this.writers = new Writer[connections];
+        for (int i = 0; i < connections; i++) {
+            Writer writer = new Writer(signal);
+            writers[i] = writer;
+            Thread.startVirtualThread(writer);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.running = false;
+        for (Writer writer : writers) writer.signal();
+    }
+
+    @Benchmark
+    public void flush(Counters counters) {
+        final Writer[] writers = this.writers;
+        final long wakeupsBefore = totalWakeups();
+        for (Writer writer : writers) writer.pending.incrementAndGet();
+        // End of tick
+        for (Writer writer : writers) writer.signal();
+        for (Writer writer : writers) {
+            while (writer.pending.get() != 0) Thread.onSpinWait();
+        }
+        counters.wakeups += totalWakeups() - wakeupsBefore;
+    }
+
+    private long totalWakeups() {
+        long wakeups = 0;
+        for (Writer writer : writers) wakeups += writer.wakeups.get();
+        return wakeups;
+    }
+
+    private final class Writer implements Runnable {
+        private final boolean signal;
+        private final AtomicLong pending = new AtomicLong();
+        private final AtomicLong wakeups = new AtomicLong();
+        private final AtomicBoolean flushRequested = new AtomicBoolean();
+        private volatile Thread thread;
+
+        Writer(boolean signal) {
+            this.signal = signal;
+        }
+
+        @Override
+        public void run() {
+            this.thread = Thread.currentThread();
+            while (running) {
+                if (pending.get() == 0) {
+                    if (signal) {
+                        if (!flushRequested.getAndSet(false)) {
+                            LockSupport.parkNanos(this, PARK_TIMEOUT);
+                            flushRequested.set(false);
+                        }
+                    } else {
+                        try {
+                            Thread.sleep(SLEEP_MS);
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    wakeups.incrementAndGet();
+                }
+                // Write
+                pending.set(0);
+            }
+        }
+
+        void signal() {
+            if (!signal || flushRequested.getAndSet(true)) return;
+            final Thread thread = this.thread;
+            if (thread != null) LockSupport.unpark(thread);
+        }
+    }
+}
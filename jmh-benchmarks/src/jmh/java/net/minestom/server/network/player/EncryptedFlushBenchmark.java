@@ -0,0 +1,59 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frames 1k small packets per flush with encryption enabled, either encrypting each packet once written
+ * (previous behavior) or the whole flushed region at once.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EncryptedFlushBenchmark {
+    private static final int PACKETS = 1000;
+
+    @Param({"packet", "flush"})
+    public String encryption;
+
+    private Cipher cipher;
+    private NetworkBuffer buffer;
+    private EntityHeadLookPacket packet;
+
+    @Setup
+    public void setup() {
+        this.cipher = MojangCrypt.getCipher(1, new SecretKeySpec(new byte[16], "AES"));
+        this.buffer = NetworkBuffer.staticBuffer(PACKETS * 16);
+        this.packet = new EntityHeadLookPacket(1, 90);
+    }
+
+    @Benchmark
+    public NetworkBuffer flush() {
+        final NetworkBuffer buffer = this.buffer;
+        buffer.clear();
+        if (encryption.equals("packet")) {
+            for (int i = 0; i < PACKETS; i++) {
+                final long start = buffer.writeIndex();
+                PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 0);
+                buffer.cipher(cipher, start, buffer.writeIndex() - start);
+            }
+        } else {
+            for (int i = 0; i < PACKETS; i++) {
+                PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 0);
+            }
+            buffer.cipher(cipher, 0, buffer.writeIndex());
+        }
+        return buffer;
+    }
+}
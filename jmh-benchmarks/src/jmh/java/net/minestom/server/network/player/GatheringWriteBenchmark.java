@@ -0,0 +1,107 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.NetworkBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flushes the same chunk sized packet to every viewer, either copied in a per-connection buffer
+ * (previous behavior) or referenced through {@link GatheringWriteBuffer}.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GatheringWriteBenchmark {
+
+    @Param({"500"})
+    public int viewers;
+
+    @Param({"16384", "65536"})
+    public int packetSize;
+
+    private NetworkBuffer chunkPacket;
+    private NetworkBuffer copyBuffer;
+    private ByteBuffer copyView;
+    private GatheringWriteBuffer[] connections;
+    private final DiscardChannel channel = new DiscardChannel();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long bytesCopied;
+    }
+
+    @Setup
+    public void setup() {
+        this.chunkPacket = NetworkBuffer.staticBuffer(packetSize);
+        for (int i = 0; i < packetSize; i++) chunkPacket.write(NetworkBuffer.BYTE, (byte) i);
+        chunkPacket.readOnly();
+        this.copyBuffer = NetworkBuffer.staticBuffer(packetSize);
+        this.connections = new GatheringWriteBuffer[viewers];
+        for (int i = 0; i < viewers; i++) connections[i] = new GatheringWriteBuffer();
+    }
+
+    @Benchmark
+    public void copy(Counters counters) throws IOException {
+        final NetworkBuffer buffer = this.copyBuffer;
+        for (int i = 0; i < viewers; i++) {
+            buffer.clear();
+            NetworkBuffer.copy(chunkPacket, 0, buffer, 0, packetSize);
+            buffer.advanceWrite(packetSize);
+            this.copyView = NetworkBuffer.nioView(buffer, 0, packetSize, copyView);
+            channel.write(copyView);
+            counters.bytesCopied += packetSize;
+        }
+    }
+
+    @Benchmark
+    public void gather(Counters counters) throws IOException {
+        for (GatheringWriteBuffer connection : connections) {
+            final long copiedBefore = connection.copiedBytes();
+            connection.addShared(chunkPacket, 0, packetSize);
+            connection.write(channel);
+            counters.bytesCopied += connection.copiedBytes() - copiedBefore;
+        }
+    }
+
+    private static final class DiscardChannel implements GatheringByteChannel {
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int i = offset; i < offset + length; i++) {
+                ByteBuffer src = srcs[i];
+                written += src.remaining();
+                src.position(src.limit());
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            final int remaining = src.remaining();
+            src.position(src.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package net.minestom.server.thread;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Threads acquiring two random tick threads at once, in random order.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AcquirableContentionBenchmark {
+    @Param({"4", "16"})
+    public int threadCount;
+
+    private TickThread[] threads;
+
+    @Setup
+    public void setup() {
+        threads = new TickThread[threadCount];
+        for (int i = 0; i < threadCount; i++) threads[i] = new TickThread(i);
+    }
+
+    @Benchmark
+    public void acquirePair() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final TickThread first = threads[random.nextInt(threadCount)];
+        final TickThread second = threads[random.nextInt(threadCount)];
+        final Thread currentThread = Thread.currentThread();
+        ReentrantLock firstLock = AcquirableImpl.enter(currentThread, first);
+        ReentrantLock secondLock = AcquirableImpl.enter(currentThread, second);
+        AcquirableImpl.leave(secondLock);
+        AcquirableImpl.leave(firstLock);
+    }
+}
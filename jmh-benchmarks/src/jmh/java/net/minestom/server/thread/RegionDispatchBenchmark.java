@@ -0,0 +1,97 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks clusters of entities straddling chunk borders, each entity acquiring a neighbour every tick.
+ * <p>
+ * The {@code acquiringNanos} counter reports the time spent waiting in {@link Acquirable} acquisitions,
+ * from {@link Acquirable#resetAcquiringTime()}.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RegionDispatchBenchmark {
+    private static final int CLUSTERS = 16;
+    private static final int CLUSTER_SIZE = 32;
+
+    /**
+     * "counter" assigns chunks to threads one by one, "regions" groups neighbouring chunks with entities.
+     */
+    @Param({"counter", "regions"})
+    public String provider;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Acquisitions {
+        public long acquiringNanos;
+    }
+
+    @Setup
+    public void setup() {
+        // Read once by the server process, each parameter runs in its own fork
+        System.setProperty("minestom.dispatcher-threads", "4");
+        System.setProperty("minestom.dispatcher-balancing", "false");
+        System.setProperty("minestom.dispatcher-region-shift", provider.equals("regions") ? "1" : "-1");
+        MinecraftServer.updateProcess();
+
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -16; x < 16; x++) {
+            for (int z = -16; z < 16; z++) instance.loadChunk(x, z).join();
+        }
+
+        for (int cluster = 0; cluster < CLUSTERS; cluster++) {
+            // Centered on the corner of 4 chunks
+            final double centerX = (cluster % 4) * 64 - 96;
+            final double centerZ = (cluster / 4) * 64 - 96;
+            List<AcquiringEntity> entities = new ArrayList<>();
+            for (int i = 0; i < CLUSTER_SIZE; i++) {
+                final double angle = Math.PI * 2 * i / CLUSTER_SIZE;
+                AcquiringEntity entity = new AcquiringEntity();
+                entity.setNoGravity(true);
+                entity.setInstance(instance, new Pos(centerX + Math.cos(angle) * 6, 40, centerZ + Math.sin(angle) * 6)).join();
+                entities.add(entity);
+            }
+            for (int i = 0; i < CLUSTER_SIZE; i++) {
+                entities.get(i).neighbour = entities.get((i + CLUSTER_SIZE / 2) % CLUSTER_SIZE);
+            }
+        }
+        // Let the dispatcher settle the partitions
+        for (int i = 0; i < 20; i++) MinecraftServer.process().ticker().tick(System.nanoTime());
+        Acquirable.resetAcquiringTime();
+    }
+
+    @Benchmark
+    public void tick(Acquisitions acquisitions) {
+        MinecraftServer.process().ticker().tick(System.nanoTime());
+        acquisitions.acquiringNanos += Acquirable.resetAcquiringTime();
+    }
+
+    private static final class AcquiringEntity extends Entity {
+        private volatile AcquiringEntity neighbour;
+
+        AcquiringEntity() {
+            super(EntityType.ZOMBIE);
+        }
+
+        @Override
+        public void update(long time) {
+            final AcquiringEntity neighbour = this.neighbour;
+            if (neighbour != null) neighbour.acquirable().sync(entity -> entity.getPosition());
+        }
+    }
+}
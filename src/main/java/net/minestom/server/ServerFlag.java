@@ -19,6 +19,17 @@ public final class ServerFlag {
     public static final int ENTITY_VIEW_DISTANCE = intProperty("minestom.entity-view-distance", 5);
     public static final int ENTITY_SYNCHRONIZATION_TICKS = intProperty("minestom.entity-synchronization-ticks", 20);
     public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher-threads", 1);
+    public static final boolean DISPATCHER_BALANCING = booleanProperty("minestom.dispatcher-balancing", true);
+    public static final int DISPATCHER_REGION_SHIFT = intProperty("minestom.dispatcher-region-shift", -1);
+    public static final int DISPATCHER_POST_BUDGET = intProperty("minestom.dispatcher-post-budget", 1024);
+    public static final int CHUNK_GENERATION_THREADS = intProperty("minestom.chunk-generation-threads", Runtime.getRuntime().availableProcessors());
+    public static final int LIGHTING_THREADS = intProperty("minestom.lighting-threads", Runtime.getRuntime().availableProcessors());
+    public static final boolean LIGHT_VECTORIZATION = booleanProperty("minestom.light-vectorization", true);
+    public static final boolean PHYSICS_BATCHING = booleanProperty("minestom.physics-batching", true);
+    public static final int PATHFINDING_THREADS = intProperty("minestom.pathfinding-threads", Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    public static final int PATHFINDING_BUDGET = intProperty("minestom.pathfinding-budget", 64);
+    public static final int PATHFINDING_CACHE_SIZE = intProperty("minestom.pathfinding-cache-size", 256);
+    public static final long PATHFINDING_CACHE_EXPIRATION = longProperty("minestom.pathfinding-cache-expiration", 1_000); // 1s
     public static final int SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY = intProperty("minestom.send-light-after-block-placement-delay", 100);
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000); // 5s
     public static final long KNOWN_PACKS_RESPONSE_TIMEOUT = longProperty("minestom.known-packs-response-timeout", 5 * 60_000); // 5m
@@ -26,6 +37,7 @@ public final class ServerFlag {
     // Network rate limiting
     public static final int PLAYER_PACKET_PER_TICK = intProperty("minestom.packet-per-tick", 50);
     public static final int PLAYER_PACKET_QUEUE_SIZE = intProperty("minestom.packet-queue-size", 1000);
+    public static final boolean PLAYER_MOVEMENT_COALESCING = booleanProperty("minestom.movement-coalescing", false);
     public static final long KEEP_ALIVE_DELAY = longProperty("minestom.keep-alive-delay", 10_000);
     public static final long KEEP_ALIVE_KICK = longProperty("minestom.keep-alive-kick", 15_000);
     public static final int PLAYER_CHUNK_UPDATE_LIMITER_HISTORY_SIZE = intProperty("minestom.player.chunk-update-limiter-history-size", 5, 0, Integer.MAX_VALUE);
@@ -38,6 +50,8 @@ public final class ServerFlag {
     public static final boolean SOCKET_NO_DELAY = booleanProperty("minestom.tcp-no-delay", true);
     public static final int SOCKET_TIMEOUT = intProperty("minestom.socket-timeout", 15_000);
     public static final int POOLED_BUFFER_SIZE = intProperty("minestom.pooled-buffer-size", 16_383);
+    public static final boolean GATHERING_WRITE = booleanProperty("minestom.gathering-write", true);
+    public static final boolean SOCKET_WRITE_COALESCING = booleanProperty("minestom.socket-write-coalescing", true);
 
     // Chunk update
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
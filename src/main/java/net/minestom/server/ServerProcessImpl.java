@@ -5,6 +5,8 @@ import net.minestom.server.advancements.AdvancementManager;
 import net.minestom.server.adventure.bossbar.BossBarManager;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.ViewerChanges;
+import net.minestom.server.entity.pathfinding.PathScheduler;
 import net.minestom.server.entity.damage.DamageType;
 import net.minestom.server.entity.metadata.animal.tameable.WolfMeta;
 import net.minestom.server.entity.metadata.other.PaintingMeta;
@@ -142,7 +144,13 @@ final class ServerProcessImpl implements ServerProcess {
 
         this.server = new Server(packetParser);
 
-        this.dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
+        final ThreadProvider<Chunk> threadProvider;
+        if (ServerFlag.DISPATCHER_REGION_SHIFT >= 0) {
+            threadProvider = ThreadProvider.regions(ServerFlag.DISPATCHER_REGION_SHIFT);
+        } else {
+            threadProvider = ServerFlag.DISPATCHER_BALANCING ? ThreadProvider.balanced() : ThreadProvider.counter();
+        }
+        this.dispatcher = ThreadDispatcher.of(threadProvider, ServerFlag.DISPATCHER_THREADS);
         this.ticker = new TickerImpl();
     }
 
@@ -390,12 +398,15 @@ final class ServerProcessImpl implements ServerProcess {
 
             // Flush all waiting packets
             PacketViewableUtils.flush();
+            server().signalFlush();
 
             // Monitoring
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final long viewablePacketBytes = PacketViewableUtils.resetAggregatedBytes();
+                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs, viewablePacketBytes,
+                        ViewerChanges.resetAdditions(), ViewerChanges.resetRemovals());
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
             }
         }
@@ -411,6 +422,8 @@ final class ServerProcessImpl implements ServerProcess {
             }
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
+            // Start the path computations delayed by the budget of the previous ticks
+            PathScheduler.tick();
 
             // Clear removed entities & update threads
             final long tickTime = System.currentTimeMillis() - tickStart;
@@ -6,12 +6,21 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.utils.block.BlockIterator;
+import net.minestom.server.utils.chunk.ChunkCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 final class BlockCollision {
+    // Shared by the results without collision, never modified
+    private static final Point[] NO_POINTS = new Point[3];
+    private static final Shape[] NO_SHAPES = new Shape[3];
+    private static final SweepResult UNOBSTRUCTED_SWEEP = new SweepResult(1 - Vec.EPSILON, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
+    // Collision shape of the blocks marked as full in their section occupancy
+    private static final Shape FULL_SHAPE = Block.STONE.registry().collisionShape();
+
     /**
      * Moves an entity with physics applied (ie checking against blocks)
      * <p>
@@ -24,9 +33,8 @@ final class BlockCollision {
                                        @Nullable PhysicsResult lastPhysicsResult,
                                        boolean singleCollision) {
         if (velocity.isZero()) {
-            // TODO should return a constant
             return new PhysicsResult(entityPosition, Vec.ZERO, false, false, false, false,
-                    velocity, new Point[3], new Shape[3], new Point[3], false, SweepResult.NO_COLLISION);
+                    velocity, NO_POINTS, NO_SHAPES, NO_POINTS, false, SweepResult.NO_COLLISION);
         }
         // Fast-exit using cache
         final PhysicsResult cachedResult = cachedPhysics(velocity, entityPosition, getter, lastPhysicsResult);
@@ -37,6 +45,25 @@ final class BlockCollision {
         return stepPhysics(boundingBox, velocity, entityPosition, getter, singleCollision);
     }
 
+    /**
+     * Same result as {@link #handlePhysics(BoundingBox, Vec, Pos, Block.Getter, PhysicsResult, boolean)}
+     * when no block can be collided with during the movement.
+     */
+    static PhysicsResult unobstructedPhysics(@NotNull Vec velocity, @NotNull Pos entityPosition) {
+        // Sweep of #computePhysics without collision
+        final double res = UNOBSTRUCTED_SWEEP.res;
+        double deltaX = res * velocity.x();
+        double deltaY = res * velocity.y();
+        double deltaZ = res * velocity.z();
+
+        if (Math.abs(deltaX) < Vec.EPSILON) deltaX = 0;
+        if (Math.abs(deltaY) < Vec.EPSILON) deltaY = 0;
+        if (Math.abs(deltaZ) < Vec.EPSILON) deltaZ = 0;
+
+        return new PhysicsResult(entityPosition.add(deltaX, deltaY, deltaZ), velocity, false,
+                false, false, false, velocity, NO_POINTS, NO_SHAPES, NO_POINTS, false, UNOBSTRUCTED_SWEEP);
+    }
+
     static Entity canPlaceBlockAt(Instance instance, Point blockPos, Block b) {
         for (Entity entity : instance.getNearbyEntities(blockPos, 3)) {
             if (!entity.preventBlockPlacement())
@@ -289,6 +316,19 @@ final class BlockCollision {
     static boolean checkBoundingBox(int blockX, int blockY, int blockZ,
                                     Vec entityVelocity, Pos entityPosition, BoundingBox boundingBox,
                                     Block.Getter getter, SweepResult finalResult) {
+        if (getter instanceof ChunkCache chunkCache) {
+            // Skip the block lookup when the section knows the shape
+            final byte occupancy = chunkCache.collisionOccupancy(blockX, blockY, blockZ);
+            if (occupancy == Section.OCCUPANCY_FULL) {
+                // Not short, no need to check below
+                return FULL_SHAPE.intersectBoxSwept(entityPosition, entityVelocity,
+                        new Vec(blockX, blockY, blockZ), boundingBox, finalResult);
+            } else if (occupancy == Section.OCCUPANCY_EMPTY) {
+                // Only a tall block below can be hit
+                if (!shouldCheckLower(entityVelocity, entityPosition, blockX, blockY, blockZ)) return false;
+                if (chunkCache.collisionOccupancy(blockX, blockY - 1, blockZ) != Section.OCCUPANCY_PARTIAL) return false;
+            }
+        }
         // Don't step if chunk isn't loaded yet
         final Block currentBlock = getter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE);
         final Shape currentShape = currentBlock.registry().collisionShape();
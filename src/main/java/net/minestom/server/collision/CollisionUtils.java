@@ -45,18 +45,25 @@ public final class CollisionUtils {
     /**
      * Checks for entity collisions
      *
+     * <p>
+     * Only the entities whose bounding box intersects the volume swept by {@code boundingBox} are checked.
+     * {@code extendRadius} used to be the radius of a sphere around {@code pos}, it now pads the swept volume:
+     * entities whose bounding box does not fit within {@code extendRadius} blocks around their position horizontally
+     * and {@code 2 * extendRadius} blocks above it may be missed.
+     * {@code entityFilter} is now only called for the entities with {@link Entity#hasEntityCollision()},
+     * which used to be checked after it.
+     *
      * @param velocity     the velocity of the entity
      * @param extendRadius the largest entity bounding box we can collide with
-     *                     Measured from bottom center to top corner
-     *                     This is used to extend the search radius for entities we collide with
-     *                     For players this is (0.3^2 + 0.3^2 + 1.8^2) ^ (1/3) ~= 1.51
+     *                     This is used to extend the search area for entities we collide with
+     *                     For players 1.51 is commonly used
      */
     public static @NotNull Collection<EntityCollisionResult> checkEntityCollisions(@NotNull Instance instance, @NotNull BoundingBox boundingBox, @NotNull Point pos, @NotNull Vec velocity, double extendRadius, @NotNull Function<Entity, Boolean> entityFilter, @Nullable PhysicsResult physicsResult) {
         return EntityCollision.checkCollision(instance, boundingBox, pos, velocity, extendRadius, entityFilter, physicsResult);
     }
 
     /**
-     * Checks for entity collisions
+     * Checks for entity collisions, as {@link #checkEntityCollisions(Instance, BoundingBox, Point, Vec, double, Function, PhysicsResult)}.
      *
      * @param entity        the entity to check collisions for
      * @param velocity      the velocity of the entity
@@ -126,6 +133,18 @@ public final class CollisionUtils {
                 blockGetter, lastPhysicsResult, singleCollision);
     }
 
+    /**
+     * Moves bounding box without checking blocks, the caller must ensure that none of the blocks crossed
+     * by the movement has a collision shape.
+     *
+     * @return the result of {@link #handlePhysics(Block.Getter, BoundingBox, Pos, Vec, PhysicsResult, boolean)}
+     * without collision
+     */
+    @ApiStatus.Internal
+    public static PhysicsResult unobstructedPhysics(@NotNull Pos position, @NotNull Vec velocity) {
+        return BlockCollision.unobstructedPhysics(velocity, position);
+    }
+
     /**
      * Checks whether shape is reachable by the given line of sight
      * (ie there are no blocks colliding with it).
@@ -4,6 +4,7 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -14,35 +15,48 @@ import java.util.function.Function;
 
 final class EntityCollision {
     static @NotNull List<EntityCollisionResult> checkCollision(@NotNull Instance instance, @NotNull BoundingBox boundingBox, @NotNull Point point, @NotNull Vec entityVelocity, double extendRadius, @NotNull Function<Entity, Boolean> entityFilter, @Nullable PhysicsResult physicsResult) {
-        double minimumRes = physicsResult != null ? physicsResult.res().res : Double.MAX_VALUE;
+        final double minimumRes = physicsResult != null ? physicsResult.res().res : Double.MAX_VALUE;
 
         List<EntityCollisionResult> result = new ArrayList<>();
 
-        var maxDistance = Math.pow(boundingBox.height() * boundingBox.height() + boundingBox.depth()/2 * boundingBox.depth()/2 + boundingBox.width()/2 * boundingBox.width()/2, 1/3.0);
-        double projectileDistance = entityVelocity.length();
-
-        for (Entity e : instance.getNearbyEntities(point, extendRadius + maxDistance + projectileDistance)) {
-            SweepResult sweepResult = new SweepResult(minimumRes, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
-
-            if (!entityFilter.apply(e)) continue;
-            if (!e.hasEntityCollision()) continue;
+        // Broad phase, only the entities intersecting the volume swept by the bounding box
+        final Vec sweptMin = new Vec(
+                point.x() + boundingBox.minX() + Math.min(0, entityVelocity.x()),
+                point.y() + boundingBox.minY() + Math.min(0, entityVelocity.y()),
+                point.z() + boundingBox.minZ() + Math.min(0, entityVelocity.z()));
+        final Vec sweptMax = new Vec(
+                point.x() + boundingBox.maxX() + Math.max(0, entityVelocity.x()),
+                point.y() + boundingBox.maxY() + Math.max(0, entityVelocity.y()),
+                point.z() + boundingBox.maxZ() + Math.max(0, entityVelocity.z()));
+        // Entity boxes up to extendRadius blocks around their position, bounding boxes extend upward from it
+        final BoundingBox extent = new BoundingBox(extendRadius * 2, extendRadius * 2, extendRadius * 2);
+        final Pos position = Pos.fromPoint(point);
+        // Reused by every candidate
+        final SweepResult sweepResult = new SweepResult(minimumRes, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
+
+        instance.getEntityTracker().intersectingEntities(sweptMin, sweptMax, extent, EntityTracker.Target.ENTITIES, e -> {
+            if (!e.hasEntityCollision()) return;
+            if (!entityFilter.apply(e)) return;
 
             // Overlapping with entity, math can't be done we return the entity
             if (e.getBoundingBox().intersectBox(e.getPosition().sub(point), boundingBox)) {
-                var p = Pos.fromPoint(point);
-                result.add(new EntityCollisionResult(p, e, Vec.ZERO, 0));
-                continue;
+                result.add(new EntityCollisionResult(position, e, Vec.ZERO, 0));
+                return;
             }
 
             // Check collisions with entity
+            sweepResult.res = minimumRes;
+            sweepResult.normalX = 0;
+            sweepResult.normalY = 0;
+            sweepResult.normalZ = 0;
             boolean intersected = e.getBoundingBox().intersectBoxSwept(point, entityVelocity, e.getPosition(), boundingBox, sweepResult);
 
             if (intersected && sweepResult.res < 1) {
-                var p = Pos.fromPoint(point).add(entityVelocity.mul(sweepResult.res));
+                var p = position.add(entityVelocity.mul(sweepResult.res));
                 Vec direction = new Vec(sweepResult.collidedPositionX, sweepResult.collidedPositionY, sweepResult.collidedPositionZ);
                 result.add(new EntityCollisionResult(p, e, direction, sweepResult.res));
             }
-        }
+        });
 
         return result;
     }
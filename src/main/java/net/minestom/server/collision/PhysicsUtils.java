@@ -4,6 +4,7 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.WorldBorder;
 import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,7 +35,27 @@ public final class PhysicsUtils {
         final PhysicsResult physicsResult = entityHasPhysics ?
                 CollisionUtils.handlePhysics(blockGetter, entityBoundingBox, entityPosition, entityVelocityPerTick, previousPhysicsResult, false) :
                 CollisionUtils.blocklessCollision(entityPosition, entityVelocityPerTick);
+        return simulateMovement(entityPosition, physicsResult, worldBorder, blockGetter, aerodynamics,
+                entityNoGravity, entityOnGround, entityFlying);
+    }
 
+    /**
+     * Simulate the entity's movement physics from already resolved block collisions
+     *
+     * @param entityPosition the current entity position
+     * @param physicsResult the result of the block collisions of the movement
+     * @param worldBorder the world border to test bounds against
+     * @param blockGetter the block getter used for friction
+     * @param aerodynamics the current entity aerodynamics
+     * @param entityNoGravity whether the entity has gravity
+     * @param entityOnGround whether the entity is on the ground
+     * @param entityFlying whether the entity is flying
+     * @return a {@link PhysicsResult} containing the resulting physics state of this simulation
+     */
+    @ApiStatus.Internal
+    public static @NotNull PhysicsResult simulateMovement(@NotNull Pos entityPosition, @NotNull PhysicsResult physicsResult,
+                                                          @NotNull WorldBorder worldBorder, @NotNull Block.Getter blockGetter, @NotNull Aerodynamics aerodynamics,
+                                                          boolean entityNoGravity, boolean entityOnGround, boolean entityFlying) {
         Pos newPosition = physicsResult.newPosition();
         Vec newVelocity = physicsResult.newVelocity();
 
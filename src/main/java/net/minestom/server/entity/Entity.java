@@ -1,5 +1,6 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -30,6 +31,7 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.potion.Potion;
 import net.minestom.server.potion.PotionEffect;
@@ -47,6 +49,7 @@ import net.minestom.server.timer.Scheduler;
 import net.minestom.server.timer.TaskSchedule;
 import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.MathUtils;
+import net.minestom.server.utils.PacketSendingUtils;
 import net.minestom.server.utils.PacketViewableUtils;
 import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.block.BlockIterator;
@@ -85,6 +88,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     private static final int MAX_COORDINATE = 2_000_000_000;
 
     private static final AtomicInteger LAST_ENTITY_ID = new AtomicInteger();
+    // Movement tier of a viewer not yet seen by the entity tick
+    private static final int NO_TIER = Integer.MIN_VALUE;
 
     // Certain entities should only have their position packets sent during synchronization
     private static final Set<EntityType> SYNCHRONIZE_ONLY_ENTITIES = Set.of(EntityType.ITEM, EntityType.FALLING_BLOCK,
@@ -107,7 +112,14 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     protected boolean onGround;
 
     protected BoundingBox boundingBox;
-    private PhysicsResult previousPhysicsResult = null;
+    PhysicsResult previousPhysicsResult = null;
+    // Block collisions resolved by PhysicsBatch before the tick, only valid for the inputs it was computed from
+    PhysicsResult batchedCollision;
+    long batchedTime;
+    Pos batchedPosition;
+    Vec batchedVelocity;
+    BoundingBox batchedBoundingBox;
+    long batchedBlockChanges;
 
     protected Entity vehicle;
 
@@ -166,6 +178,11 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     // Network synchronization, send the absolute position of the entity every n ticks
     private long synchronizationTicks = ServerFlag.ENTITY_SYNCHRONIZATION_TICKS;
     private long nextSynchronizationTick = synchronizationTicks;
+    // Movement rate of distant viewers, null to send every movement to all viewers
+    private MovementTiers movementTiers;
+    private Pos[] tierSyncedPositions;
+    // Tier of each viewer at the last tick, swapped every tick
+    private Object2IntOpenHashMap<Player> viewerTiers, nextViewerTiers;
 
     protected MetadataHolder metadata = new MetadataHolder(this);
     protected EntityMeta entityMeta;
@@ -186,6 +203,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.lastSyncedPosition = Pos.ZERO;
 
         this.entityMeta = MetadataHolder.createMeta(entityType, this, this.metadata);
+        setMovementTiers(MovementTiers.getDefault(entityType));
 
         setBoundingBox(entityType.registry().boundingBox());
 
@@ -567,6 +585,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     public void tick(long time) {
         if (instance == null || isRemoved() || !ChunkUtils.isLoaded(currentChunk))
             return;
+        // Computed for a previous tick
+        if (batchedCollision != null && batchedTime != time) this.batchedCollision = null;
 
         // scheduled tasks
         this.scheduler.processTick();
@@ -593,6 +613,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (vehicle == null && ticks >= nextSynchronizationTick) {
             synchronizePosition();
             sendPacketToViewers(getVelocityPacket());
+        } else if (vehicle == null && movementTiers != null) {
+            synchronizeTiers();
         }
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
@@ -606,8 +628,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         boolean entityIsPlayer = this instanceof Player;
         boolean entityFlying = entityIsPlayer && ((Player) this).isFlying();
         final Block.Getter chunkCache = new ChunkCache(instance, currentChunk, Block.STONE);
-        PhysicsResult physicsResult = PhysicsUtils.simulateMovement(position, velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND), boundingBox,
-                instance.getWorldBorder(), chunkCache, aerodynamics, hasNoGravity(), hasPhysics, onGround, entityFlying, previousPhysicsResult);
+        final PhysicsResult batchedCollision = takeBatchedCollision();
+        PhysicsResult physicsResult = batchedCollision != null ?
+                PhysicsUtils.simulateMovement(position, batchedCollision, instance.getWorldBorder(), chunkCache, aerodynamics,
+                        hasNoGravity(), onGround, entityFlying) :
+                PhysicsUtils.simulateMovement(position, velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND), boundingBox,
+                        instance.getWorldBorder(), chunkCache, aerodynamics, hasNoGravity(), hasPhysics, onGround, entityFlying, previousPhysicsResult);
         this.previousPhysicsResult = physicsResult;
 
         Chunk finalChunk = ChunkUtils.retrieve(instance, currentChunk, physicsResult.newPosition());
@@ -620,6 +646,18 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
     }
 
+    private @Nullable PhysicsResult takeBatchedCollision() {
+        final PhysicsResult collision = this.batchedCollision;
+        if (collision == null) return null;
+        this.batchedCollision = null;
+        // Modified since the batch, e.g. by a scheduled task
+        if (batchedPosition != position || batchedVelocity != velocity ||
+                batchedBoundingBox != boundingBox || !hasPhysics) return null;
+        // Blocks placed or removed since the batch
+        if (!PhysicsBatch.unchanged(this)) return null;
+        return collision;
+    }
+
     private void touchTick() {
         if (!hasPhysics) return;
 
@@ -1277,19 +1315,19 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
                     Vec.ZERO, RelativeFlags.DELTA_COORD, isOnGround()), this);
             nextSynchronizationTick = synchronizationTicks + 1;
         } else if (positionChange && viewChange) {
-            PacketViewableUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
+            sendMovementPacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastSyncedPosition, isOnGround()));
             // Fix head rotation
-            PacketViewableUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
+            sendMovementPacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()));
         } else if (positionChange) {
             // This is a confusing fix for a confusing issue. If rotation is only sent when the entity actually changes, then spawning an entity
             // on the ground causes the entity not to update its rotation correctly. It works fine if the entity is spawned in the air. Very weird.
-            PacketViewableUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, onGround), this);
+            sendMovementPacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastSyncedPosition, onGround));
         } else if (viewChange) {
-            PacketViewableUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
-            PacketViewableUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
+            sendMovementPacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()));
+            sendMovementPacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastSyncedPosition, isOnGround()));
         }
         this.lastSyncedPosition = position;
     }
@@ -1570,6 +1608,97 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.lastSyncedPosition = posCache;
     }
 
+    private void sendMovementPacket(@NotNull Chunk chunk, @NotNull ServerPacket packet) {
+        final MovementTiers movementTiers = this.movementTiers;
+        if (movementTiers == null) {
+            PacketViewableUtils.prepareViewablePacket(chunk, packet, this);
+            return;
+        }
+        final Pos position = this.position;
+        final Object2IntOpenHashMap<Player> viewerTiers = this.viewerTiers;
+        PacketSendingUtils.sendGroupedPacket(getViewers(), packet, player -> {
+            if (movementTiers.tierIndex(player.getPosition().distanceSquared(position)) != -1) return false;
+            // Viewers entering the near tier first receive the absolute position in synchronizeTiers
+            final int previousTier = viewerTiers.getInt(player);
+            return previousTier == -1 || previousTier == NO_TIER;
+        });
+    }
+
+    /**
+     * Sends the position to the viewers of the tiers updated this tick, and to the viewers who changed tier.
+     */
+    private void synchronizeTiers() {
+        final MovementTiers movementTiers = this.movementTiers;
+        final Pos[] syncedPositions = this.tierSyncedPositions;
+        final Pos position = this.position;
+        final Object2IntOpenHashMap<Player> previousTiers = this.viewerTiers;
+        final Object2IntOpenHashMap<Player> viewerTiers = this.nextViewerTiers;
+        viewerTiers.clear();
+        List<Player> changedViewers = null;
+        for (Player viewer : getViewers()) {
+            final int tier = movementTiers.tierIndex(viewer.getPosition().distanceSquared(position));
+            viewerTiers.put(viewer, tier);
+            final int previousTier = previousTiers.getInt(viewer);
+            // New viewers were spawned at the current position
+            if (previousTier == NO_TIER || previousTier == tier) continue;
+            if (changedViewers == null) changedViewers = new ArrayList<>();
+            changedViewers.add(viewer);
+        }
+        this.viewerTiers = viewerTiers;
+        this.nextViewerTiers = previousTiers;
+        if (changedViewers != null) {
+            // The client position may be stale by the movements of the previous tier
+            PacketSendingUtils.sendGroupedPacket(changedViewers, new EntityPositionSyncPacket(getEntityId(), position,
+                    position.sub(previousPosition), position.yaw(), position.pitch(), isOnGround()));
+            PacketSendingUtils.sendGroupedPacket(changedViewers, new EntityHeadLookPacket(getEntityId(), position.yaw()));
+        }
+
+        final List<MovementTiers.Tier> tiers = movementTiers.tiers();
+        for (int i = 0; i < tiers.size(); i++) {
+            if (ticks % tiers.get(i).interval() != 0) continue;
+            final Pos syncedPosition = syncedPositions[i];
+            if (position.equals(syncedPosition)) continue;
+            syncedPositions[i] = position;
+            final int tier = i;
+            final Predicate<Player> predicate = player -> viewerTiers.getInt(player) == tier;
+            final Pos delta = syncedPosition != null ? position.sub(syncedPosition) : Pos.ZERO;
+            PacketSendingUtils.sendGroupedPacket(getViewers(), new EntityPositionSyncPacket(getEntityId(), position,
+                    delta, position.yaw(), position.pitch(), isOnGround()), predicate);
+            if (syncedPosition == null || !position.sameView(syncedPosition)) {
+                PacketSendingUtils.sendGroupedPacket(getViewers(), new EntityHeadLookPacket(getEntityId(), position.yaw()), predicate);
+            }
+        }
+    }
+
+    /**
+     * Gets the movement tiers of this entity.
+     *
+     * @return the movement tiers, null if every viewer receives every movement
+     */
+    public @Nullable MovementTiers getMovementTiers() {
+        return movementTiers;
+    }
+
+    /**
+     * Changes the rate of the movement packets sent to distant viewers.
+     * <p>
+     * Defaults to {@link MovementTiers#getDefault(EntityType)} of the entity type.
+     *
+     * @param movementTiers the movement tiers, null to send every movement to all viewers
+     */
+    public void setMovementTiers(@Nullable MovementTiers movementTiers) {
+        this.tierSyncedPositions = movementTiers != null ? new Pos[movementTiers.tiers().size()] : null;
+        this.viewerTiers = movementTiers != null ? newViewerTiers() : null;
+        this.nextViewerTiers = movementTiers != null ? newViewerTiers() : null;
+        this.movementTiers = movementTiers;
+    }
+
+    private static Object2IntOpenHashMap<Player> newViewerTiers() {
+        Object2IntOpenHashMap<Player> viewerTiers = new Object2IntOpenHashMap<>();
+        viewerTiers.defaultReturnValue(NO_TIER);
+        return viewerTiers;
+    }
+
     private void synchronizeView() {
         sendPacketToViewers(new EntityHeadLookPacket(getEntityId(), position.yaw()));
         sendPacketToViewers(new EntityRotationPacket(getEntityId(), position.yaw(), position.pitch(), onGround));
@@ -1619,7 +1748,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     @Override
     public @NotNull EntitySnapshot updateSnapshot(@NotNull SnapshotUpdater updater) {
         final Chunk chunk = currentChunk;
-        final int[] viewersId = this.viewEngine.viewableOption.bitSet.toIntArray();
+        final int[] viewersId = this.viewEngine.viewableOption.registeredIds();
         final int[] passengersId = ArrayUtils.mapToIntArray(passengers, Entity::getEntityId);
         final Entity vehicle = this.vehicle;
         return new SnapshotImpl.Entity(entityType, uuid, id, position, velocity,
@@ -1,7 +1,6 @@
 package net.minestom.server.entity;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minestom.server.ServerFlag;
@@ -18,6 +17,13 @@ import java.util.function.Predicate;
 
 final class EntityView {
     private static final int RANGE = ServerFlag.ENTITY_VIEW_DISTANCE;
+    // Serialize the changes of a viewer/viewable pair without locking both entities
+    private static final Object[] PAIR_LOCKS = new Object[1024];
+
+    static {
+        for (int i = 0; i < PAIR_LOCKS.length; i++) PAIR_LOCKS[i] = new Object();
+    }
+
     private final Entity entity;
     private final Set<Player> manualViewers = new HashSet<>();
 
@@ -36,30 +42,26 @@ final class EntityView {
         this.viewableOption = new Option<>(EntityTracker.Target.PLAYERS, Entity::autoViewEntities,
                 player -> {
                     // Add viewable
-                    var lock1 = player.getEntityId() < entity.getEntityId() ? player : entity;
-                    var lock2 = lock1 == entity ? player : entity;
-                    synchronized (lock1.viewEngine.mutex) {
-                        synchronized (lock2.viewEngine.mutex) {
-                            if (!entity.viewEngine.viewableOption.predicate(player) ||
-                                    !player.viewEngine.viewerOption.predicate(entity)) return;
-                            entity.viewEngine.viewableOption.register(player);
-                            player.viewEngine.viewerOption.register(entity);
-                        }
+                    synchronized (pairLock(entity, player)) {
+                        if (!entity.viewEngine.viewableOption.predicate(player) ||
+                                !player.viewEngine.viewerOption.predicate(entity)) return;
+                        final boolean added = entity.viewEngine.viewableOption.register(player);
+                        player.viewEngine.viewerOption.register(entity);
+                        if (!added) return;
                     }
+                    ViewerChanges.ADDITIONS.increment();
                     // Entity#updateNewViewer handles calling itself for passengers
                     if (entity.getVehicle() != null) return;
                     entity.updateNewViewer(player);
                 },
                 player -> {
                     // Remove viewable
-                    var lock1 = player.getEntityId() < entity.getEntityId() ? player : entity;
-                    var lock2 = lock1 == entity ? player : entity;
-                    synchronized (lock1.viewEngine.mutex) {
-                        synchronized (lock2.viewEngine.mutex) {
-                            entity.viewEngine.viewableOption.unregister(player);
-                            player.viewEngine.viewerOption.unregister(entity);
-                        }
+                    synchronized (pairLock(entity, player)) {
+                        final boolean removed = entity.viewEngine.viewableOption.unregister(player);
+                        player.viewEngine.viewerOption.unregister(entity);
+                        if (!removed) return;
                     }
+                    ViewerChanges.REMOVALS.increment();
                     entity.updateOldViewer(player);
                 });
         this.viewerOption = new Option<>(EntityTracker.Target.ENTITIES, Entity::isAutoViewable,
@@ -74,11 +76,19 @@ final class EntityView {
     record TrackedLocation(Instance instance, Point point) {
     }
 
+    private static Object pairLock(Entity first, Entity second) {
+        final int id1 = Math.min(first.getEntityId(), second.getEntityId());
+        final int id2 = Math.max(first.getEntityId(), second.getEntityId());
+        return PAIR_LOCKS[(int) HashCommon.mix(((long) id1 << 32) | (id2 & 0xFFFFFFFFL)) & (PAIR_LOCKS.length - 1)];
+    }
+
     public boolean manualAdd(@NotNull Player player) {
         if (player == this.entity) return false;
         synchronized (mutex) {
             if (manualViewers.add(player)) {
-                viewableOption.bitSet.add(player.getEntityId());
+                synchronized (viewableOption.bitSet) {
+                    viewableOption.bitSet.add(player.getEntityId());
+                }
                 return true;
             }
             return false;
@@ -89,7 +99,9 @@ final class EntityView {
         if (player == this.entity) return false;
         synchronized (mutex) {
             if (manualViewers.remove(player)) {
-                viewableOption.bitSet.remove(player.getEntityId());
+                synchronized (viewableOption.bitSet) {
+                    viewableOption.bitSet.remove(player.getEntityId());
+                }
                 return true;
             }
             return false;
@@ -137,12 +149,13 @@ final class EntityView {
         // The consumers to be called when an entity is added/removed.
         public final Consumer<T> addition, removal;
         // Contains all the auto-entity ids that are viewable by this option.
+        // Guarded by itself, a leaf lock never held while acquiring another
         public final IntSet bitSet = new IntOpenHashSet();
         // 1 if auto, 0 if manual
         private volatile int auto = 1;
         // The custom rule used to determine if an entity is viewable.
         // null if auto-viewable
-        private Predicate<T> predicate = null;
+        private volatile Predicate<T> predicate = null;
 
         public Option(EntityTracker.Target<T> target, Predicate<T> loopPredicate,
                       Consumer<T> addition, Consumer<T> removal) {
@@ -162,16 +175,34 @@ final class EntityView {
         }
 
         public boolean isRegistered(T entity) {
-            return bitSet.contains(entity.getEntityId());
+            synchronized (bitSet) {
+                return bitSet.contains(entity.getEntityId());
+            }
         }
 
-        public void register(T entity) {
+        public boolean register(T entity) {
             assert entity.getInstance() != null : "Instance-less entity shouldn't be registered as viewer";
-            this.bitSet.add(entity.getEntityId());
+            synchronized (bitSet) {
+                return this.bitSet.add(entity.getEntityId());
+            }
         }
 
-        public void unregister(T entity) {
-            this.bitSet.remove(entity.getEntityId());
+        public boolean unregister(T entity) {
+            synchronized (bitSet) {
+                return this.bitSet.remove(entity.getEntityId());
+            }
+        }
+
+        int[] registeredIds() {
+            synchronized (bitSet) {
+                return bitSet.toIntArray();
+            }
+        }
+
+        int registeredCount() {
+            synchronized (bitSet) {
+                return bitSet.size();
+            }
         }
 
         public void updateAuto(boolean autoViewable) {
@@ -215,69 +246,47 @@ final class EntityView {
 
         private void update(Predicate<T> visibilityPredicate,
                             Consumer<T> action) {
-            references().forEach(entity -> {
+            final TrackedLocation trackedLocation = EntityView.this.trackedLocation;
+            if (trackedLocation == null) return;
+            // Entities are only in a single chunk, no need to deduplicate them
+            trackedLocation.instance().getEntityTracker().nearbyEntitiesByChunkRange(trackedLocation.point(), RANGE, target, entity -> {
                 if (entity == EntityView.this.entity || !visibilityPredicate.test(entity)) return;
                 if (entity instanceof Player player && manualViewers.contains(player)) return;
                 if (entity.getVehicle() != null) return;
                 action.accept(entity);
             });
         }
-
-        private int lastSize;
-
-        private Collection<T> references() {
-            final TrackedLocation trackedLocation = EntityView.this.trackedLocation;
-            if (trackedLocation == null) return List.of();
-            final Instance instance = trackedLocation.instance();
-            final Point point = trackedLocation.point();
-
-            Int2ObjectOpenHashMap<T> entityMap = new Int2ObjectOpenHashMap<>(lastSize);
-            instance.getEntityTracker().nearbyEntitiesByChunkRange(point, RANGE, target,
-                    (entity) -> entityMap.putIfAbsent(entity.getEntityId(), entity));
-            this.lastSize = entityMap.size();
-            return entityMap.values();
-        }
     }
 
     final class SetImpl extends AbstractSet<Player> {
         @Override
         public @NotNull Iterator<Player> iterator() {
-            List<Player> players;
-            synchronized (mutex) {
-                var bitSet = viewableOption.bitSet;
-                if (bitSet.isEmpty()) return Collections.emptyIterator();
-                Instance instance = entity.getInstance();
-                if (instance == null) return Collections.emptyIterator();
-                players = new ArrayList<>(bitSet.size());
-                for (IntIterator it = bitSet.intIterator(); it.hasNext(); ) {
-                    final int id = it.nextInt();
-                    final Player player = (Player) instance.getEntityById(id);
-                    if (player != null) players.add(player);
-                }
+            final Instance instance = entity.getInstance();
+            if (instance == null) return Collections.emptyIterator();
+            final int[] ids = viewableOption.registeredIds();
+            if (ids.length == 0) return Collections.emptyIterator();
+            List<Player> players = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                final Player player = (Player) instance.getEntityById(id);
+                if (player != null) players.add(player);
             }
             return players.iterator();
         }
 
         @Override
         public int size() {
-            synchronized (mutex) {
-                return viewableOption.bitSet.size();
-            }
+            return viewableOption.registeredCount();
         }
 
         @Override
         public boolean isEmpty() {
-            synchronized (mutex) {
-                return viewableOption.bitSet.isEmpty();
-            }
+            return viewableOption.registeredCount() == 0;
         }
 
         @Override
         public boolean contains(Object o) {
             if (!(o instanceof Player player)) return false;
-            synchronized (mutex) {
-                return viewableOption.isRegistered(player);
-            }
+            return viewableOption.isRegistered(player);
         }
     }
 }
@@ -0,0 +1,76 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reduces the rate of the movement packets sent to distant viewers of an entity.
+ * <p>
+ * Viewers closer than {@code nearDistance} blocks receive every movement. Other viewers are sorted into the first tier
+ * whose distance they are closer than (the last tier for the farthest ones) and receive the entity position once every
+ * {@link Tier#interval()} ticks, all the movements in between being merged into a single absolute update.
+ * <p>
+ * Defaults can be registered per {@link EntityType} with {@link #setDefault(EntityType, MovementTiers)}, and are applied
+ * to the entities created afterward.
+ *
+ * @param nearDistance the distance in blocks under which viewers receive every movement
+ * @param tiers        the tiers of distant viewers, by increasing distance
+ */
+public record MovementTiers(double nearDistance, @NotNull List<Tier> tiers) {
+    private static final Map<EntityType, MovementTiers> DEFAULTS = new ConcurrentHashMap<>();
+
+    public MovementTiers {
+        Check.argCondition(nearDistance < 0, "Near distance cannot be negative");
+        Check.argCondition(tiers.isEmpty(), "At least one tier is required");
+        tiers = List.copyOf(tiers);
+        double previous = nearDistance;
+        for (Tier tier : tiers) {
+            Check.argCondition(tier.distance() < previous, "Tiers must be sorted by increasing distance");
+            previous = tier.distance();
+        }
+    }
+
+    public MovementTiers(double nearDistance, @NotNull Tier... tiers) {
+        this(nearDistance, List.of(tiers));
+    }
+
+    /**
+     * Gets the tier of a viewer.
+     *
+     * @param distanceSquared the squared distance between the entity and the viewer
+     * @return the index of the tier, -1 if the viewer receives every movement
+     */
+    public int tierIndex(double distanceSquared) {
+        if (distanceSquared < nearDistance * nearDistance) return -1;
+        final List<Tier> tiers = this.tiers;
+        for (int i = 0; i < tiers.size() - 1; i++) {
+            final double distance = tiers.get(i).distance();
+            if (distanceSquared < distance * distance) return i;
+        }
+        return tiers.size() - 1;
+    }
+
+    public static void setDefault(@NotNull EntityType entityType, @Nullable MovementTiers tiers) {
+        if (tiers == null) DEFAULTS.remove(entityType);
+        else DEFAULTS.put(entityType, tiers);
+    }
+
+    public static @Nullable MovementTiers getDefault(@NotNull EntityType entityType) {
+        return DEFAULTS.get(entityType);
+    }
+
+    /**
+     * @param distance the distance in blocks under which viewers are in this tier
+     * @param interval the number of ticks between two position updates
+     */
+    public record Tier(double distance, int interval) {
+        public Tier {
+            Check.argCondition(interval < 1, "Interval must be positive");
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.collision.CollisionUtils;
+import net.minestom.server.collision.PhysicsResult;
+import net.minestom.server.collision.Shape;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.DynamicChunk;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Resolves the block collisions of the entities of a chunk at once, before they are ticked.
+ * <p>
+ * Positions, velocities and bounding boxes are gathered into arrays. Entities whose movement only crosses blocks
+ * without collision shape get their result without running the sweep of {@link CollisionUtils}, the others are left
+ * to the regular path in {@link Entity#movementTick()}. Results are discarded if the entity is modified before its tick,
+ * or if a block changed in the chunks crossed by its movement.
+ * <p>
+ * Custom entities are ignored as they may override their movement.
+ */
+@ApiStatus.Internal
+public final class PhysicsBatch {
+    private static final ThreadLocal<PhysicsBatch> BATCHES = ThreadLocal.withInitial(PhysicsBatch::new);
+    // Larger movements are left to the regular path
+    private static final int MAX_REGION_BLOCKS = 64;
+    // Covers rounding differences with the points checked by the sweep
+    private static final double REGION_MARGIN = 1e-7;
+
+    private Entity[] entities = new Entity[16];
+    private Vec[] velocities = new Vec[16];
+    // 3 values per entity
+    private double[] positions = new double[48];
+    private double[] deltas = new double[48];
+    private double[] boxStarts = new double[48];
+    private double[] boxEnds = new double[48];
+    private int size;
+
+    private PhysicsBatch() {
+    }
+
+    /**
+     * Resolves the collisions of the entities in {@code chunk} ticked by the current thread.
+     *
+     * @param chunk the chunk to simulate
+     * @param time  the tick time, results are only used by the entity tick of the same time
+     */
+    public static void simulate(@NotNull Chunk chunk, long time) {
+        if (!ServerFlag.PHYSICS_BATCHING) return;
+        final Instance instance = chunk.getInstance();
+        final Collection<Entity> chunkEntities = instance.getEntityTracker()
+                .chunkEntities(chunk.getChunkX(), chunk.getChunkZ(), EntityTracker.Target.ENTITIES);
+        if (chunkEntities.isEmpty()) return;
+        final PhysicsBatch batch = BATCHES.get();
+        try {
+            for (Entity entity : chunkEntities) {
+                if (batchable(entity, chunk)) batch.gather(entity);
+            }
+            if (batch.size > 0) batch.resolve(instance, new ChunkCache(instance, chunk, Block.STONE), time);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private static boolean batchable(Entity entity, Chunk chunk) {
+        final Class<?> type = entity.getClass();
+        if (type != Entity.class && type != ItemEntity.class) return false;
+        if (entity.currentChunk != chunk || !entity.acquirable().isLocal()) return false;
+        if (!entity.hasPhysics || entity.vehicle != null || entity.isRemoved() || entity.velocity.isZero()) return false;
+        // Resting entities use the cached result of the regular path
+        final PhysicsResult previous = entity.previousPhysicsResult;
+        return previous == null || !previous.collisionY();
+    }
+
+    private void gather(Entity entity) {
+        final int index = size++;
+        if (index == entities.length) grow();
+        final Pos position = entity.position;
+        final Vec velocity = entity.velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND);
+        final BoundingBox boundingBox = entity.boundingBox;
+        this.entities[index] = entity;
+        this.velocities[index] = velocity;
+        final int offset = index * 3;
+        positions[offset] = position.x();
+        positions[offset + 1] = position.y();
+        positions[offset + 2] = position.z();
+        deltas[offset] = velocity.x();
+        deltas[offset + 1] = velocity.y();
+        deltas[offset + 2] = velocity.z();
+        boxStarts[offset] = boundingBox.minX();
+        boxStarts[offset + 1] = boundingBox.minY();
+        boxStarts[offset + 2] = boundingBox.minZ();
+        boxEnds[offset] = boundingBox.maxX();
+        boxEnds[offset + 1] = boundingBox.maxY();
+        boxEnds[offset + 2] = boundingBox.maxZ();
+    }
+
+    private void resolve(Instance instance, ChunkCache getter, long time) {
+        for (int i = 0; i < size; i++) {
+            final Entity entity = entities[i];
+            final long blockChanges = blockChanges(instance, entity.position, velocities[i], entity.boundingBox);
+            if (blockChanges == -1 || !unobstructed(getter, i * 3)) continue;
+            entity.batchedCollision = CollisionUtils.unobstructedPhysics(entity.position, velocities[i]);
+            entity.batchedBlockChanges = blockChanges;
+            entity.batchedTime = time;
+            entity.batchedPosition = entity.position;
+            entity.batchedVelocity = entity.velocity;
+            entity.batchedBoundingBox = entity.boundingBox;
+        }
+    }
+
+    /**
+     * Checks that no block changed in the chunks crossed by the movement of an entity since its collision was resolved.
+     */
+    static boolean unchanged(@NotNull Entity entity) {
+        final Vec velocity = entity.batchedVelocity.div(ServerFlag.SERVER_TICKS_PER_SECOND);
+        return blockChanges(entity.instance, entity.batchedPosition, velocity, entity.batchedBoundingBox) == entity.batchedBlockChanges;
+    }
+
+    /**
+     * Sums the block changes of the chunks crossed by a movement, the counters only ever increase.
+     *
+     * @return the sum, -1 if a chunk does not count its changes
+     */
+    private static long blockChanges(Instance instance, Pos position, Vec delta, BoundingBox boundingBox) {
+        final int minChunkX = CoordConversion.globalToChunk(Math.min(position.x(), position.x() + delta.x()) + boundingBox.minX() - REGION_MARGIN);
+        final int maxChunkX = CoordConversion.globalToChunk(Math.max(position.x(), position.x() + delta.x()) + boundingBox.maxX() + REGION_MARGIN);
+        final int minChunkZ = CoordConversion.globalToChunk(Math.min(position.z(), position.z() + delta.z()) + boundingBox.minZ() - REGION_MARGIN);
+        final int maxChunkZ = CoordConversion.globalToChunk(Math.max(position.z(), position.z() + delta.z()) + boundingBox.maxZ() + REGION_MARGIN);
+        long changes = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!(instance.getChunk(chunkX, chunkZ) instanceof DynamicChunk chunk)) return -1;
+                changes += chunk.blockChanges();
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Checks the blocks crossed by the swept bounding box, and the layer below for tall shapes (fences, walls).
+     */
+    private boolean unobstructed(ChunkCache getter, int offset) {
+        final int minX = regionStart(offset), maxX = regionEnd(offset);
+        final int minY = regionStart(offset + 1), maxY = regionEnd(offset + 1);
+        final int minZ = regionStart(offset + 2), maxZ = regionEnd(offset + 2);
+        final long blocks = (long) (maxX - minX + 1) * (maxY - minY + 2) * (maxZ - minZ + 1);
+        if (blocks > MAX_REGION_BLOCKS) return false;
+        for (int y = minY - 1; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    final byte occupancy = getter.collisionOccupancy(x, y, z);
+                    if (occupancy == Section.OCCUPANCY_EMPTY) continue;
+                    if (occupancy == Section.OCCUPANCY_FULL) {
+                        // Not tall
+                        if (y < minY) continue;
+                        return false;
+                    }
+                    final Shape shape = getter.getBlock(x, y, z, Block.Getter.Condition.TYPE).registry().collisionShape();
+                    if (y < minY ? shape.relativeEnd().y() > 1 : !shape.relativeEnd().isZero()) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int regionStart(int index) {
+        final double position = positions[index];
+        return (int) Math.floor(Math.min(position, position + deltas[index]) + boxStarts[index] - REGION_MARGIN);
+    }
+
+    private int regionEnd(int index) {
+        final double position = positions[index];
+        return (int) Math.floor(Math.max(position, position + deltas[index]) + boxEnds[index] + REGION_MARGIN);
+    }
+
+    private void grow() {
+        final int capacity = entities.length * 2;
+        this.entities = Arrays.copyOf(entities, capacity);
+        this.velocities = Arrays.copyOf(velocities, capacity);
+        this.positions = Arrays.copyOf(positions, capacity * 3);
+        this.deltas = Arrays.copyOf(deltas, capacity * 3);
+        this.boxStarts = Arrays.copyOf(boxStarts, capacity * 3);
+        this.boxEnds = Arrays.copyOf(boxEnds, capacity * 3);
+    }
+
+    private void clear() {
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(velocities, 0, size, null);
+        this.size = 0;
+    }
+}
@@ -98,6 +98,7 @@ import org.jctools.queues.MpscArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -154,11 +155,25 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
     private int maxChunkBatchLead = 1; // Maximum number of batches to send before waiting for a reply
     private int chunkBatchLead = 0; // Number of batches sent without a reply
 
+    // Chunks in view which are still being loaded, cancelled when leaving the view
+    private final Long2ObjectSyncMap<CompletableFuture<Chunk>> loadingChunks = Long2ObjectSyncMap.hashmap();
     final ChunkRange.ChunkConsumer chunkAdder = (chunkX, chunkZ) -> {
         // Load new chunks
-        this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(this::sendChunk);
+        final CompletableFuture<Chunk> future = this.instance.loadOptionalChunk(chunkX, chunkZ);
+        if (future.isDone()) {
+            future.thenAccept(this::sendChunk);
+            return;
+        }
+        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        this.loadingChunks.put(index, future);
+        future.thenAccept(chunk -> {
+            this.loadingChunks.remove(index, future);
+            sendChunk(chunk);
+        });
     };
     final ChunkRange.ChunkConsumer chunkRemover = (chunkX, chunkZ) -> {
+        final CompletableFuture<Chunk> loading = this.loadingChunks.remove(CoordConversion.chunkIndex(chunkX, chunkZ));
+        if (loading != null) loading.cancel(false);
         // Unload old chunks
         sendPacket(new UnloadChunkPacket(chunkX, chunkZ));
         EventDispatcher.call(new PlayerChunkUnloadEvent(this, chunkX, chunkZ));
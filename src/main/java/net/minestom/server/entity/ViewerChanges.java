@@ -0,0 +1,25 @@
+package net.minestom.server.entity;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the automatic viewer changes of all entities, reported in {@link net.minestom.server.monitoring.TickMonitor}.
+ */
+@ApiStatus.Internal
+public final class ViewerChanges {
+    static final LongAdder ADDITIONS = new LongAdder();
+    static final LongAdder REMOVALS = new LongAdder();
+
+    private ViewerChanges() {
+    }
+
+    public static long resetAdditions() {
+        return ADDITIONS.sumThenReset();
+    }
+
+    public static long resetRemovals() {
+        return REMOVALS.sumThenReset();
+    }
+}
@@ -106,7 +106,7 @@ public final class Navigator {
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
 
-        this.computingPath = PathGenerator.generate(instance,
+        this.computingPath = PathScheduler.compute(instance,
                 this.entity.getPosition(),
                 point,
                 minimumDistance, maxDistance,
@@ -162,7 +162,7 @@ public final class Navigator {
         if (currentTarget == null || path.getCurrentType() == PNode.Type.REPATH || path.getCurrentType() == null) {
             if (computingPath != null && computingPath.getState() == PPath.State.CALCULATING) return;
 
-            computingPath = PathGenerator.generate(entity.getInstance(),
+            computingPath = PathScheduler.compute(entity.getInstance(),
                     entity.getPosition(),
                     Pos.fromPoint(goalPosition),
                     minimumDistance, path.maxDistance(),
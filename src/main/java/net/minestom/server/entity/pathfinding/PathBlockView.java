@@ -0,0 +1,69 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import java.util.Objects;
+
+/**
+ * Read-only view of the blocks of an instance, used to compute paths outside the instance tick.
+ * <p>
+ * Each section is copied under its chunk lock the first time it is read, so that the search sees a consistent
+ * section even if it is modified in the meantime. Only block states are available, handlers and nbt are ignored.
+ * <p>
+ * Not thread-safe, one view is used by a single path computation.
+ */
+final class PathBlockView implements Block.Getter {
+    private final Instance instance;
+    private final int minY, maxY;
+    // Chunk index -> copied block palettes, a null element when the section hasn't been read yet
+    private final Long2ObjectOpenHashMap<Palette[]> chunks = new Long2ObjectOpenHashMap<>();
+
+    PathBlockView(@NotNull Instance instance) {
+        this.instance = instance;
+        this.minY = instance.getCachedDimensionType().minY();
+        this.maxY = instance.getCachedDimensionType().maxY();
+    }
+
+    @Override
+    public @UnknownNullability Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+        if (y < minY || y >= maxY) return Block.AIR;
+        final int chunkX = CoordConversion.globalToChunk(x);
+        final int chunkZ = CoordConversion.globalToChunk(z);
+        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        final int sectionIndex = (y - minY) >> 4;
+
+        Palette[] sections = chunks.get(index);
+        Palette palette = sections != null ? sections[sectionIndex] : null;
+        if (palette == null) {
+            final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+            if (chunk == null) throw new UnloadedChunkException();
+            if (sections == null) {
+                sections = new Palette[chunk.getMaxSection() - chunk.getMinSection()];
+                chunks.put(index, sections);
+            }
+            synchronized (chunk) {
+                palette = chunk.getSectionAt(y).blockPalette().clone();
+            }
+            sections[sectionIndex] = palette;
+        }
+        final int stateId = palette.get(CoordConversion.globalToSectionRelative(x),
+                CoordConversion.globalToSectionRelative(y), CoordConversion.globalToSectionRelative(z));
+        return Objects.requireNonNullElse(Block.fromStateId(stateId), Block.AIR);
+    }
+
+    /**
+     * Thrown when the search reaches an unloaded chunk, ends the computation.
+     */
+    static final class UnloadedChunkException extends RuntimeException {
+        UnloadedChunkException() {
+            super("Unloaded chunk", null, false, false);
+        }
+    }
+}
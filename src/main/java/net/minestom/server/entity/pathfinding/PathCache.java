@@ -0,0 +1,83 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Least recently used cache of the computed paths, so that entities going to the same place share a single search.
+ * <p>
+ * Entries expire after a short delay as blocks along the path may have changed.
+ */
+final class PathCache {
+    private final int capacity;
+    private final long expirationNanos;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    PathCache(int capacity, long expirationMillis) {
+        this.capacity = capacity;
+        this.expirationNanos = expirationMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PathCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Fills {@code path} with a copy of the cached nodes.
+     *
+     * @return the state of the cached path, null if not cached
+     */
+    synchronized PPath.State fill(@NotNull Key key, @NotNull Point target, @NotNull PPath path) {
+        final Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (System.nanoTime() - entry.time > expirationNanos) {
+            entries.remove(key);
+            return null;
+        }
+        final List<PNode> nodes = path.getNodes();
+        for (PNode node : entry.nodes) {
+            nodes.add(new PNode(node.x(), node.y(), node.z(), node.g(), node.h(), node.getType(), null));
+        }
+        if (entry.state == PPath.State.COMPUTED) {
+            // The last node is the exact target of the cached search
+            nodes.set(nodes.size() - 1, new PNode(target, 0, 0, PNode.Type.WALK, null));
+        }
+        return entry.state;
+    }
+
+    synchronized void put(@NotNull Key key, @NotNull List<PNode> nodes, @NotNull PPath.State state) {
+        if (capacity == 0 || nodes.isEmpty()) return;
+        entries.put(key, new Entry(List.copyOf(nodes), state, System.nanoTime()));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    record Key(Instance instance, long start, long target, BoundingBox boundingBox, Class<?> generator,
+               double closeDistance, double maxDistance, double pathVariance) {
+        static @NotNull Key of(@NotNull Instance instance, @NotNull Point start, @NotNull Point target,
+                               @NotNull BoundingBox boundingBox, @NotNull Class<?> generator,
+                               double closeDistance, double maxDistance, double pathVariance) {
+            return new Key(instance,
+                    PathSearch.blockKey(start.blockX(), start.blockY(), start.blockZ()),
+                    PathSearch.blockKey(target.blockX(), target.blockY(), target.blockZ()),
+                    boundingBox, generator, closeDistance, maxDistance, pathVariance);
+        }
+    }
+
+    private record Entry(List<PNode> nodes, PPath.State state, long time) {
+    }
+}
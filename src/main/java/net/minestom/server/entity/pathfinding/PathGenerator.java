@@ -1,7 +1,5 @@
 package net.minestom.server.entity.pathfinding;
 
-import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashBigSet;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
@@ -10,15 +8,29 @@ import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
+import java.util.Collections;
+import java.util.Set;
 
 public final class PathGenerator {
-    private static final Comparator<PNode> pNodeComparator = (s1, s2) -> (int) (((s1.g() + s1.h()) - (s2.g() + s2.h())) * 1000);
 
     public static @NotNull PPath generate(Block.@NotNull Getter getter, @NotNull Pos orgStart, @NotNull Point orgTarget,
                                           double closeDistance, double maxDistance, double pathVariance,
                                           @NotNull BoundingBox boundingBox, boolean isOnGround, @NotNull NodeGenerator generator,
                                           @Nullable Runnable onComplete) {
+        PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        path.setState(generate(getter, orgStart, orgTarget, closeDistance, maxDistance, pathVariance, boundingBox, isOnGround, generator, path));
+        return path;
+    }
+
+    /**
+     * Fills the nodes of {@code path}, leaving its state to the caller.
+     *
+     * @return the state of the computed path
+     */
+    static @NotNull PPath.State generate(Block.@NotNull Getter getter, @NotNull Pos orgStart, @NotNull Point orgTarget,
+                                         double closeDistance, double maxDistance, double pathVariance,
+                                         @NotNull BoundingBox boundingBox, boolean isOnGround, @NotNull NodeGenerator generator,
+                                         @NotNull PPath path) {
         final Point start = (!isOnGround && generator.hasGravitySnap())
                 ? orgStart.withY(generator.gravitySnap(getter, orgStart.x(), orgStart.y(), orgStart.z(), boundingBox, 100).orElse(orgStart.y()))
                 : orgStart;
@@ -27,76 +39,69 @@ public final class PathGenerator {
                 ? orgTarget.withY(generator.gravitySnap(getter, orgTarget.x(), orgTarget.y(), orgTarget.z(), boundingBox, 100).orElse(orgTarget.y()))
                 : Pos.fromPoint(orgTarget);
 
-        PPath path = new PPath(maxDistance, pathVariance, onComplete);
-        computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
-        return path;
+        final PathSearch search = PathSearch.acquire();
+        try {
+            return computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator, search);
+        } finally {
+            search.release();
+        }
     }
 
     private static PNode buildRepathNode(PNode parent) {
         return new PNode(0, 0, 0, 0, 0, PNode.Type.REPATH, parent);
     }
 
-    private static void computePath(Block.Getter getter, Point start, Point target,
-                                    double closeDistance, double maxDistance, double pathVariance,
-                                    BoundingBox boundingBox, PPath path, NodeGenerator generator) {
+    private static PPath.State computePath(Block.Getter getter, Point start, Point target,
+                                           double closeDistance, double maxDistance, double pathVariance,
+                                           BoundingBox boundingBox, PPath path, NodeGenerator generator, PathSearch search) {
         double closestDistance = Double.MAX_VALUE;
         double straightDistance = generator.heuristic(start, target);
         int maxSize = (int) Math.floor(maxDistance * 10);
+        final double maxDistanceSquared = maxDistance * maxDistance;
 
         closeDistance = Math.max(0.8, closeDistance);
-        List<PNode> closestFoundNodes = List.of();
+        PNode closestFoundNode = null;
 
         PNode pStart = new PNode(start, 0, generator.heuristic(start, target), PNode.Type.WALK, null);
+        search.enqueue(pStart);
 
-        ObjectHeapPriorityQueue<PNode> open = new ObjectHeapPriorityQueue<>(pNodeComparator);
-        open.enqueue(pStart);
-
-        Set<PNode> closed = new ObjectOpenHashBigSet<>(maxSize);
+        final Set<PNode> closed = search.closed();
 
-        while (!open.isEmpty() && closed.size() < maxSize) {
+        while (!search.isEmpty() && closed.size() < maxSize) {
             if (path.getState() == PPath.State.TERMINATING) {
-                path.setState(PPath.State.TERMINATED);
-                return;
+                return PPath.State.TERMINATED;
             }
 
-            PNode current = open.dequeue();
-
-            //var chunk = instance.getChunkAt(current.x(), current.z());
-            //if (chunk == null) continue;
-            //if (!chunk.isLoaded()) continue;
+            PNode current = search.dequeue();
 
             if (((current.g() + current.h()) - straightDistance) > pathVariance) continue;
             if (!withinDistance(current, start, maxDistance)) continue;
             if (withinDistance(current, target, closeDistance)) {
-                open.enqueue(current);
+                search.enqueue(current);
                 break;
             }
 
             if (current.h() < closestDistance) {
                 closestDistance = current.h();
-                closestFoundNodes = List.of(current);
+                closestFoundNode = current;
             }
 
-            Collection<? extends PNode> found = generator.getWalkable(getter, closed, current, target, boundingBox);
-            found.forEach(p -> {
-                if (getDistanceSquared(p.x(), p.y(), p.z(), start) <= (maxDistance * maxDistance)) {
-                    open.enqueue(p);
+            for (PNode p : generator.getWalkable(getter, closed, current, target, boundingBox)) {
+                if (getDistanceSquared(p.x(), p.y(), p.z(), start) <= maxDistanceSquared) {
+                    search.enqueue(p);
                     closed.add(p);
                 }
-            });
+            }
         }
 
-        PNode current = open.isEmpty() ? null : open.dequeue();
+        PNode current = search.isEmpty() ? null : search.dequeue();
 
         if (current == null || !withinDistance(current, target, closeDistance)) {
-            if (closestFoundNodes.isEmpty()) {
-                path.setState(PPath.State.INVALID);
-                return;
-            }
+            if (closestFoundNode == null) return PPath.State.INVALID;
 
-            current = closestFoundNodes.getFirst();
+            current = closestFoundNode;
 
-            if (!open.isEmpty()) {
+            if (!search.isEmpty()) {
                 current = buildRepathNode(current);
             }
         }
@@ -109,25 +114,20 @@ public final class PathGenerator {
         Collections.reverse(path.getNodes());
 
         if (path.getCurrentType() == PNode.Type.REPATH) {
-            path.setState(PPath.State.INVALID);
             path.getNodes().clear();
-            return;
+            return PPath.State.INVALID;
         }
 
-        if (path.getNodes().isEmpty()) {
-            path.setState(PPath.State.INVALID);
-            return;
-        }
+        if (path.getNodes().isEmpty()) return PPath.State.INVALID;
 
         var lastNode = path.getNodes().getLast();
         if (getDistanceSquared(lastNode.x(), lastNode.y(), lastNode.z(), target) > (closeDistance * closeDistance)) {
-            path.setState(PPath.State.BEST_EFFORT);
-            return;
+            return PPath.State.BEST_EFFORT;
         }
 
         PNode pEnd = new PNode(target, 0, 0, PNode.Type.WALK, null);
         path.getNodes().add(pEnd);
-        path.setState(PPath.State.COMPUTED);
+        return PPath.State.COMPUTED;
     }
 
     private static boolean withinDistance(PNode point, Point target, double closeDistance) {
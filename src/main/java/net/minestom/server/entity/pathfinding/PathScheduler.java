@@ -0,0 +1,122 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes paths on a pool of {@link ServerFlag#PATHFINDING_THREADS} threads, outside the tick threads.
+ * <p>
+ * At most {@link ServerFlag#PATHFINDING_BUDGET} computations are started per server tick, the others wait for the next ticks.
+ * The budget is reset and the waiting computations started by {@link #tick()}, after the dispatcher update.
+ * Paths set to {@link PPath.State#TERMINATING} before or while being computed are dropped.
+ * <p>
+ * Recently computed paths are cached, a request with the same start and target blocks is answered without a search.
+ */
+@ApiStatus.Internal
+public final class PathScheduler {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(ServerFlag.PATHFINDING_THREADS,
+            Thread.ofPlatform().name("Ms-Pathfinding-", 0).daemon().factory());
+    private static final Queue<Runnable> PENDING = new ConcurrentLinkedQueue<>();
+    private static final PathCache CACHE = new PathCache(ServerFlag.PATHFINDING_CACHE_SIZE, ServerFlag.PATHFINDING_CACHE_EXPIRATION);
+
+    // Computations started since the last server tick
+    private static final AtomicInteger STARTED = new AtomicInteger();
+
+    private PathScheduler() {
+    }
+
+    /**
+     * Schedules the computation of a path.
+     *
+     * @return the path, in the {@link PPath.State#CALCULATING} state until computed
+     */
+    static @NotNull PPath compute(@NotNull Instance instance, @NotNull Pos start, @NotNull Point target,
+                                  double closeDistance, double maxDistance, double pathVariance,
+                                  @NotNull BoundingBox boundingBox, boolean isOnGround, @NotNull NodeGenerator generator,
+                                  @Nullable Runnable onComplete) {
+        final PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        final PathCache.Key key = PathCache.Key.of(instance, start, target, boundingBox, generator.getClass(),
+                closeDistance, maxDistance, pathVariance);
+        final PPath.State cached = CACHE.fill(key, target, path);
+        if (cached != null) {
+            path.setState(cached);
+            return path;
+        }
+
+        final PathBlockView view = new PathBlockView(instance);
+        PENDING.add(() -> {
+            if (path.getState() == PPath.State.TERMINATING) {
+                path.setState(PPath.State.TERMINATED);
+                return;
+            }
+            try {
+                final PPath.State state;
+                // Generators keep state between steps, a navigator shares its generator between successive paths
+                synchronized (generator) {
+                    state = PathGenerator.generate(view, start, target, closeDistance, maxDistance, pathVariance,
+                            boundingBox, isOnGround, generator, path);
+                }
+                // Cache before publishing the path, the navigator trims its nodes while following it
+                if (state == PPath.State.COMPUTED || state == PPath.State.BEST_EFFORT) {
+                    CACHE.put(key, path.getNodes(), state);
+                }
+                path.setState(state);
+            } catch (PathBlockView.UnloadedChunkException e) {
+                path.setState(PPath.State.INVALID);
+            } catch (Throwable e) {
+                path.setState(PPath.State.INVALID);
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        });
+        drain();
+        return path;
+    }
+
+    /**
+     * Resets the budget and starts the computations delayed by the previous ticks, called every server tick.
+     */
+    public static void tick() {
+        STARTED.set(0);
+        drain();
+    }
+
+    /**
+     * Starts the pending computations allowed by the budget of the current tick.
+     */
+    static void drain() {
+        while (!PENDING.isEmpty() && acquireBudget()) {
+            final Runnable task = PENDING.poll();
+            if (task == null) {
+                releaseBudget();
+                return;
+            }
+            EXECUTOR.execute(task);
+        }
+    }
+
+    private static boolean acquireBudget() {
+        while (true) {
+            final int started = STARTED.get();
+            if (started >= ServerFlag.PATHFINDING_BUDGET) return false;
+            if (STARTED.compareAndSet(started, started + 1)) return true;
+        }
+    }
+
+    private static void releaseBudget() {
+        STARTED.getAndUpdate(started -> started > 0 ? started - 1 : started);
+    }
+}
@@ -0,0 +1,182 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Open and closed sets of a path search, reused by all the searches of a thread.
+ * <p>
+ * The open set is a binary heap ordered by {@code g + h}, the closed set only stores the packed block position of the
+ * nodes.
+ */
+final class PathSearch {
+    private static final ThreadLocal<PathSearch> SEARCHES = ThreadLocal.withInitial(PathSearch::new);
+    // Capacity kept between searches, larger buffers are released after an unusually long search
+    private static final int RETAINED_CAPACITY = 4096;
+
+    private PNode[] heap = new PNode[64];
+    private double[] costs = new double[64];
+    private int size;
+
+    private final LongOpenHashSet closedKeys = new LongOpenHashSet();
+    private final Set<PNode> closed = new ClosedSet();
+
+    private boolean active;
+
+    private PathSearch() {
+    }
+
+    /**
+     * Gets the search of the current thread, cleared.
+     * <p>
+     * Must be followed by {@link #release()} once the search is done.
+     */
+    static @NotNull PathSearch acquire() {
+        PathSearch search = SEARCHES.get();
+        // A generator could start another search from the same thread
+        if (search.active) search = new PathSearch();
+        search.active = true;
+        return search;
+    }
+
+    void release() {
+        Arrays.fill(heap, 0, size, null);
+        this.size = 0;
+        if (heap.length > RETAINED_CAPACITY) {
+            this.heap = new PNode[64];
+            this.costs = new double[64];
+        }
+        closedKeys.clear();
+        closedKeys.trim(RETAINED_CAPACITY);
+        this.active = false;
+    }
+
+    void enqueue(@NotNull PNode node) {
+        if (size == heap.length) {
+            this.heap = Arrays.copyOf(heap, size * 2);
+            this.costs = Arrays.copyOf(costs, size * 2);
+        }
+        final double cost = node.g() + node.h();
+        int index = size++;
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (costs[parent] <= cost) break;
+            heap[index] = heap[parent];
+            costs[index] = costs[parent];
+            index = parent;
+        }
+        heap[index] = node;
+        costs[index] = cost;
+    }
+
+    @NotNull PNode dequeue() {
+        final PNode result = heap[0];
+        final int last = --size;
+        final PNode node = heap[last];
+        final double cost = costs[last];
+        heap[last] = null;
+        if (last > 0) {
+            int index = 0;
+            while (true) {
+                int child = (index << 1) + 1;
+                if (child >= last) break;
+                if (child + 1 < last && costs[child + 1] < costs[child]) child++;
+                if (cost <= costs[child]) break;
+                heap[index] = heap[child];
+                costs[index] = costs[child];
+                index = child;
+            }
+            heap[index] = node;
+            costs[index] = cost;
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the closed set, given to the node generators.
+     * <p>
+     * Nodes are compared by block position, iterating it gives nodes at the corner of each block without cost or parent.
+     */
+    @NotNull Set<PNode> closed() {
+        return closed;
+    }
+
+    static long blockKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    static int blockKeyX(long key) {
+        return (int) (key >> 38);
+    }
+
+    static int blockKeyY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    static int blockKeyZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    private static long blockKey(@NotNull PNode node) {
+        return blockKey(node.blockX(), node.blockY(), node.blockZ());
+    }
+
+    private final class ClosedSet extends AbstractSet<PNode> {
+        @Override
+        public boolean add(PNode node) {
+            return closedKeys.add(blockKey(node));
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof PNode node && closedKeys.contains(blockKey(node));
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof PNode node && closedKeys.remove(blockKey(node));
+        }
+
+        @Override
+        public int size() {
+            return closedKeys.size();
+        }
+
+        @Override
+        public void clear() {
+            closedKeys.clear();
+        }
+
+        @Override
+        public @NotNull Iterator<PNode> iterator() {
+            final LongIterator keys = closedKeys.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return keys.hasNext();
+                }
+
+                @Override
+                public PNode next() {
+                    final long key = keys.nextLong();
+                    return new PNode(blockKeyX(key), blockKeyY(key), blockKeyZ(key), 0, 0, null);
+                }
+
+                @Override
+                public void remove() {
+                    keys.remove();
+                }
+            };
+        }
+    }
+}
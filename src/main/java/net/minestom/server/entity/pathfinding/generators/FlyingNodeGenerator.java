@@ -9,16 +9,19 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.OptionalDouble;
 import java.util.Set;
 
 public class FlyingNodeGenerator implements NodeGenerator {
     private PNode tempNode = null;
+    private final List<PNode> nearby = new ArrayList<>();
 
     @Override
     public @NotNull Collection<? extends PNode> getWalkable(Block.@NotNull Getter getter, @NotNull Set<PNode> visited, @NotNull PNode current, @NotNull Point goal, @NotNull BoundingBox boundingBox) {
-        Collection<PNode> nearby = new ArrayList<>();
-        tempNode = new PNode(0, 0, 0, 0, 0, current);
+        nearby.clear();
+        if (tempNode == null) tempNode = new PNode(0, 0, 0, 0, 0, current);
+        else tempNode.setParent(current);
 
         int stepSize = (int) Math.max(Math.floor(boundingBox.width() / 2), 1);
         if (stepSize < 1) stepSize = 1;
@@ -17,6 +17,9 @@ import java.util.Set;
 public interface NodeGenerator {
     /**
      * Gets the walkable nodes.
+     * <p>
+     * The returned collection is only valid until the next call on the same generator: implementations may clear and
+     * refill it, so callers must copy the nodes they keep. A generator is therefore not safe for concurrent searches.
      *
      * @param getter      the instance
      * @param visited     the visited nodes
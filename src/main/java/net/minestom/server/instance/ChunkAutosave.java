@@ -0,0 +1,183 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.light.Light;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically persists the modified chunks of an {@link InstanceContainer} using its {@link IChunkLoader}.
+ * <p>
+ * A chunk is considered modified when its {@link Chunk#getLastChangeTime()} is not older than its last save,
+ * chunks which have never been saved (e.g. generated) are always modified.
+ * Modified chunks are copied on the instance tick, then serialized and written from virtual threads.
+ * A chunk marked multiple times before being saved is only written once.
+ * <p>
+ * Writes are throttled by a bytes per second budget, based on an estimation of the uncompressed chunk size,
+ * so that a large amount of modified chunks is spread over multiple ticks instead of saved at once.
+ *
+ * @see InstanceContainer#enableAutosave(int, long)
+ */
+public final class ChunkAutosave {
+    private final InstanceContainer instance;
+    private final int intervalTicks;
+    private final long bytesPerSecond;
+
+    // Chunk index -> time of the last snapshot
+    private final Long2LongMap savedAt = new Long2LongOpenHashMap();
+    private final LongLinkedOpenHashSet pending = new LongLinkedOpenHashSet();
+    private final LongSet inFlight = new LongOpenHashSet();
+    private final AtomicInteger savedChunks = new AtomicInteger();
+
+    private long tick;
+    private long budget;
+
+    ChunkAutosave(@NotNull InstanceContainer instance, int intervalTicks, long bytesPerSecond) {
+        Check.argCondition(intervalTicks <= 0, "The autosave interval must be positive");
+        Check.argCondition(bytesPerSecond <= 0, "The autosave budget must be positive");
+        this.instance = instance;
+        this.intervalTicks = intervalTicks;
+        this.bytesPerSecond = bytesPerSecond;
+        this.savedAt.defaultReturnValue(-1);
+        this.budget = bytesPerSecond;
+    }
+
+    /**
+     * Gets the number of ticks between two scans for modified chunks.
+     *
+     * @return the autosave interval in ticks
+     */
+    public int intervalTicks() {
+        return intervalTicks;
+    }
+
+    /**
+     * Gets the maximum amount of chunk data to save every second.
+     *
+     * @return the autosave budget in bytes per second
+     */
+    public long bytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Gets the number of chunks waiting to be saved.
+     *
+     * @return the number of pending chunks
+     */
+    public synchronized int pendingChunks() {
+        return pending.size() + inFlight.size();
+    }
+
+    /**
+     * Gets the number of chunks saved since this autosave has been enabled.
+     *
+     * @return the number of saved chunks
+     */
+    public int savedChunks() {
+        return savedChunks.get();
+    }
+
+    /**
+     * Checks whether a chunk has been modified since its last save.
+     *
+     * @param chunk the chunk to check
+     * @return true if the chunk needs to be saved
+     */
+    public synchronized boolean isModified(@NotNull Chunk chunk) {
+        final long saved = savedAt.get(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
+        return saved == -1 || chunk.getLastChangeTime() >= saved;
+    }
+
+    /**
+     * Marks a chunk as saved, e.g. after being loaded from storage.
+     *
+     * @param chunk the chunk in the same state as its storage
+     * @param time  the time at which the chunk data has been read, in milliseconds
+     */
+    synchronized void markSaved(@NotNull Chunk chunk, long time) {
+        final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+        this.savedAt.put(index, time);
+        this.pending.remove(index);
+    }
+
+    synchronized void forget(@NotNull Chunk chunk) {
+        final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+        this.savedAt.remove(index);
+        this.pending.remove(index);
+    }
+
+    /**
+     * Schedules the modified chunks and saves as many as the budget allows.
+     * <p>
+     * Called from the instance tick.
+     */
+    synchronized void tick() {
+        // Allow at most one second of burst
+        final long refill = Math.max(1, bytesPerSecond / ServerFlag.SERVER_TICKS_PER_SECOND);
+        this.budget = budget >= bytesPerSecond - refill ? bytesPerSecond : budget + refill;
+        if (tick++ % intervalTicks == 0) {
+            for (Chunk chunk : instance.getChunks()) {
+                if (chunk.isLoaded() && !chunk.isReadOnly() && isModified(chunk)) {
+                    this.pending.add(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
+                }
+            }
+        }
+
+        final IChunkLoader loader = instance.getChunkLoader();
+        final int maxInFlight = loader.supportsParallelSaving() ? Integer.MAX_VALUE : 1;
+        while (budget > 0 && !pending.isEmpty() && inFlight.size() < maxInFlight) {
+            final long index = pending.removeFirstLong();
+            // Still being written, will be scheduled again by the next scan if modified
+            if (inFlight.contains(index)) continue;
+            final Chunk chunk = instance.getChunk(CoordConversion.chunkIndexGetX(index), CoordConversion.chunkIndexGetZ(index));
+            if (chunk == null || !chunk.isLoaded()) continue;
+
+            final Chunk snapshot;
+            synchronized (chunk) {
+                this.savedAt.put(index, System.currentTimeMillis());
+                snapshot = chunk.copy(instance, chunk.getChunkX(), chunk.getChunkZ());
+            }
+            this.budget -= estimateSize(snapshot);
+            this.inFlight.add(index);
+            Thread.startVirtualThread(() -> {
+                boolean saved = false;
+                try {
+                    loader.saveChunk(snapshot);
+                    saved = true;
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                } finally {
+                    synchronized (this) {
+                        this.inFlight.remove(index);
+                        if (saved) savedChunks.incrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+
+    private static long estimateSize(Chunk chunk) {
+        long size = 0;
+        for (Section section : chunk.getSections()) {
+            size += (long) section.blockPalette().bitsPerEntry() * section.blockPalette().maxSize() / 8;
+            size += (long) section.biomePalette().bitsPerEntry() * section.biomePalette().maxSize() / 8;
+            size += lightSize(section.skyLight()) + lightSize(section.blockLight());
+        }
+        return Math.max(size, 1);
+    }
+
+    private static int lightSize(Light light) {
+        final byte[] array = light.array();
+        return array != null ? array.length : 0;
+    }
+}
@@ -0,0 +1,289 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Loads and generates the chunks of an {@link InstanceContainer} with a bounded number of concurrent tasks.
+ * <p>
+ * Requests for the same chunk are merged, and pending requests are started closest to the instance players first.
+ * Player positions are captured and the priorities refreshed every instance tick as players move.
+ * Each call to {@link #request(int, int, Supplier)} returns its own future, cancelling it withdraws the caller's interest,
+ * and a pending request is dropped once no caller is interested anymore.
+ * <p>
+ * Tasks run on virtual threads, and must not wait for other chunks of the instance to be loaded
+ * as those may be queued behind them.
+ *
+ * @see InstanceContainer#getGenerationScheduler()
+ */
+public final class ChunkGenerationScheduler {
+    private static final Comparator<Request> ORDER = Comparator.comparingLong((Request request) -> request.priority)
+            .thenComparingLong(request -> request.sequence);
+
+    private final InstanceContainer instance;
+    private volatile int parallelism;
+
+    // Chunk index -> pending or running request
+    private final Long2ObjectMap<Request> requests = new Long2ObjectOpenHashMap<>();
+    private final PriorityQueue<Request> queue = new PriorityQueue<>(ORDER);
+    private long sequence;
+    private int running;
+    // Chunk indexes of the players, refreshed every tick outside the scheduler lock
+    private volatile long[] playerSnapshot = new long[0];
+
+    private final AtomicLong completedRequests = new AtomicLong();
+    private final AtomicLong cancelledRequests = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    ChunkGenerationScheduler(@NotNull InstanceContainer instance, int parallelism) {
+        this.instance = instance;
+        setParallelism(parallelism);
+    }
+
+    /**
+     * Gets the maximum number of chunks loaded or generated at the same time.
+     *
+     * @return the maximum number of running tasks
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Changes the maximum number of chunks loaded or generated at the same time.
+     * Running tasks are not interrupted when lowered.
+     *
+     * @param parallelism the maximum number of running tasks
+     */
+    public void setParallelism(int parallelism) {
+        Check.argCondition(parallelism <= 0, "The generation parallelism must be positive");
+        this.parallelism = parallelism;
+        drain();
+    }
+
+    /**
+     * Gets the number of requests waiting to be started.
+     *
+     * @return the queue depth
+     */
+    public synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of requests currently being loaded or generated.
+     *
+     * @return the number of running tasks
+     */
+    public synchronized int runningTasks() {
+        return running;
+    }
+
+    /**
+     * Gets the number of requests which have been completed, successfully or not.
+     *
+     * @return the number of completed requests
+     */
+    public long completedRequests() {
+        return completedRequests.get();
+    }
+
+    /**
+     * Gets the number of requests dropped before being started because nobody needed the chunk anymore.
+     *
+     * @return the number of cancelled requests
+     */
+    public long cancelledRequests() {
+        return cancelledRequests.get();
+    }
+
+    /**
+     * Gets the average time between a request and its completion, including the time spent in the queue.
+     *
+     * @return the average latency, zero if no request has been completed
+     */
+    public @NotNull Duration averageLatency() {
+        final long completed = completedRequests.get();
+        return completed == 0 ? Duration.ZERO : Duration.ofNanos(totalLatency.get() / completed);
+    }
+
+    /**
+     * Gets the longest time between a request and its completion, including the time spent in the queue.
+     *
+     * @return the maximum latency, zero if no request has been completed
+     */
+    public @NotNull Duration maxLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+
+    /**
+     * Requests a chunk, or joins the pending request for it.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param task   loads or generates the chunk, only called once per request
+     * @return a future completed with the chunk, cancel it if the chunk isn't needed anymore
+     */
+    @NotNull CompletableFuture<Chunk> request(int chunkX, int chunkZ, @NotNull Supplier<Chunk> task) {
+        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        final long priority = priority(index, playerSnapshot);
+        final Request request;
+        synchronized (this) {
+            Request existing = requests.get(index);
+            if (existing == null) {
+                existing = new Request(index, task, sequence++);
+                existing.priority = priority;
+                requests.put(index, existing);
+                queue.add(existing);
+            }
+            existing.interest++;
+            request = existing;
+        }
+        drain();
+
+        final CompletableFuture<Chunk> future = request.future.copy();
+        future.whenComplete((chunk, throwable) -> {
+            if (future.isCancelled()) release(request);
+        });
+        return future;
+    }
+
+    /**
+     * Refreshes the priority of the pending requests, called every instance tick.
+     */
+    void tick() {
+        final long[] players = playerChunks();
+        this.playerSnapshot = players;
+        final Request[] pending;
+        synchronized (this) {
+            if (queue.isEmpty()) return;
+            pending = queue.toArray(Request[]::new);
+        }
+        // Computed outside the lock, requests are not delayed by the player scan
+        final long[] priorities = new long[pending.length];
+        for (int i = 0; i < pending.length; i++) priorities[i] = priority(pending[i].index, players);
+        synchronized (this) {
+            List<Request> queued = new ArrayList<>(queue);
+            queue.clear();
+            // Requests started or dropped in the meantime are not re-added
+            for (int i = 0; i < pending.length; i++) pending[i].priority = priorities[i];
+            queue.addAll(queued);
+        }
+        drain();
+    }
+
+    private void release(Request request) {
+        synchronized (this) {
+            if (--request.interest > 0 || request.started) return;
+            requests.remove(request.index);
+            queue.remove(request);
+        }
+        this.cancelledRequests.incrementAndGet();
+        request.future.cancel(false);
+    }
+
+    private void drain() {
+        List<Request> started = null;
+        synchronized (this) {
+            while (running < parallelism && !queue.isEmpty()) {
+                final Request request = queue.poll();
+                request.started = true;
+                this.running++;
+                if (started == null) started = new ArrayList<>();
+                started.add(request);
+            }
+        }
+        if (started == null) return;
+        for (Request request : started) Thread.startVirtualThread(() -> run(request));
+    }
+
+    private void run(Request request) {
+        Chunk chunk = null;
+        Throwable error = null;
+        try {
+            chunk = request.task.get();
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            error = e;
+        }
+        synchronized (this) {
+            requests.remove(request.index);
+            this.running--;
+        }
+        final long latency = System.nanoTime() - request.createdAt;
+        this.totalLatency.addAndGet(latency);
+        this.maxLatency.accumulateAndGet(latency, Math::max);
+        this.completedRequests.incrementAndGet();
+        if (error == null) request.future.complete(chunk);
+        else request.future.completeExceptionally(error);
+        drain();
+    }
+
+    /**
+     * Gets the chunk indexes of the players in the instance and its shared instances.
+     */
+    private long[] playerChunks() {
+        LongArrayList chunks = new LongArrayList();
+        addPlayerChunks(instance, chunks);
+        for (SharedInstance sharedInstance : instance.getSharedInstances()) addPlayerChunks(sharedInstance, chunks);
+        return chunks.toLongArray();
+    }
+
+    private static void addPlayerChunks(Instance instance, LongArrayList chunks) {
+        for (Player player : instance.getPlayers()) {
+            final Pos position = player.getPosition();
+            chunks.add(CoordConversion.chunkIndex(position.chunkX(), position.chunkZ()));
+        }
+    }
+
+    /**
+     * Squared distance in chunks to the closest player, requests are ordered by submission without players.
+     */
+    private static long priority(long index, long[] players) {
+        final int chunkX = CoordConversion.chunkIndexGetX(index);
+        final int chunkZ = CoordConversion.chunkIndexGetZ(index);
+        long priority = Long.MAX_VALUE;
+        for (long player : players) {
+            final long dx = chunkX - CoordConversion.chunkIndexGetX(player);
+            final long dz = chunkZ - CoordConversion.chunkIndexGetZ(player);
+            priority = Math.min(priority, dx * dx + dz * dz);
+        }
+        return priority;
+    }
+
+    private static final class Request {
+        final long index;
+        final Supplier<Chunk> task;
+        final long sequence;
+        final long createdAt = System.nanoTime();
+        final CompletableFuture<Chunk> future = new CompletableFuture<>();
+
+        // Guarded by the scheduler
+        long priority;
+        int interest;
+        boolean started;
+
+        Request(long index, Supplier<Chunk> task, long sequence) {
+            this.index = index;
+            this.task = task;
+            this.sequence = sequence;
+        }
+    }
+}
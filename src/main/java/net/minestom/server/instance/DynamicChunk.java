@@ -8,6 +8,7 @@ import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.PhysicsBatch;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
@@ -29,6 +30,7 @@ import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -59,7 +61,11 @@ public class DynamicChunk extends Chunk {
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
 
     private long lastChange;
+    // Incremented by every block change, see #blockChanges()
+    private volatile long blockChanges;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
+    // Encoded block count and palettes of each section, null when modified since the last packet
+    private final byte[][] sectionsData;
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
 
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
@@ -67,6 +73,7 @@ public class DynamicChunk extends Chunk {
         var sectionsTemp = new Section[maxSection - minSection];
         Arrays.setAll(sectionsTemp, value -> new Section());
         this.sections = List.of(sectionsTemp);
+        this.sectionsData = new byte[sectionsTemp.length][];
     }
 
     @Override
@@ -82,19 +89,18 @@ public class DynamicChunk extends Chunk {
         assertLock();
 
         this.lastChange = System.currentTimeMillis();
+        this.blockChanges++;
         this.chunkCache.invalidate();
+        this.sectionsData[CoordConversion.globalToChunk(y) - minSection] = null;
 
         Section section = getSectionAt(y);
 
         int sectionRelativeX = globalToSectionRelative(x);
         int sectionRelativeZ = globalToSectionRelative(z);
 
-        section.blockPalette().set(
-                sectionRelativeX,
-                globalToSectionRelative(y),
-                sectionRelativeZ,
-                block.stateId()
-        );
+        final int sectionRelativeY = globalToSectionRelative(y);
+        section.blockPalette().set(sectionRelativeX, sectionRelativeY, sectionRelativeZ, block.stateId());
+        section.updateOccupancy(sectionRelativeX, sectionRelativeY, sectionRelativeZ, block.stateId());
 
         final int index = CoordConversion.chunkBlockIndex(x, y, z);
         // Handler
@@ -137,7 +143,9 @@ public class DynamicChunk extends Chunk {
     @Override
     public void setBiome(int x, int y, int z, @NotNull DynamicRegistry.Key<Biome> biome) {
         assertLock();
+        this.lastChange = System.currentTimeMillis();
         this.chunkCache.invalidate();
+        this.sectionsData[CoordConversion.globalToChunk(y) - minSection] = null;
         Section section = getSectionAt(y);
 
         var id = BIOME_REGISTRY.getId(biome.key());
@@ -182,6 +190,8 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public void tick(long time) {
+        // Ticked before the entities of its partition
+        PhysicsBatch.simulate(this, time);
         if (tickableMap.isEmpty()) return;
         tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
             final int index = entry.getIntKey();
@@ -214,6 +224,28 @@ public class DynamicChunk extends Chunk {
         return Objects.requireNonNullElse(Block.fromStateId(blockStateId), Block.AIR);
     }
 
+    /**
+     * Gets the number of block changes of this chunk, to detect the changes since a previous call.
+     *
+     * @return the block change counter, only ever increasing
+     */
+    @ApiStatus.Internal
+    public long blockChanges() {
+        return blockChanges;
+    }
+
+    /**
+     * Gets the collision occupancy of a block, see {@link Section#collisionOccupancy(int, int, int)}.
+     */
+    @ApiStatus.Internal
+    public byte collisionOccupancy(int x, int y, int z) {
+        assertLock();
+        if (y < minSection * CHUNK_SECTION_SIZE || y >= maxSection * CHUNK_SECTION_SIZE)
+            return Section.OCCUPANCY_EMPTY; // Out of bounds, air
+        return getSectionAt(y).collisionOccupancy(globalToSectionRelative(x),
+                globalToSectionRelative(y), globalToSectionRelative(z));
+    }
+
     @Override
     public @NotNull DynamicRegistry.Key<Biome> getBiome(int x, int y, int z) {
         assertLock();
@@ -248,10 +280,17 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        invalidate();
     }
 
     @Override
     public void invalidate() {
+        synchronized (this) {
+            Arrays.fill(sectionsData, null);
+            // The palettes may have been modified in bulk
+            for (Section section : sections) section.invalidateOccupancy();
+            this.blockChanges++;
+        }
         this.chunkCache.invalidate();
     }
 
@@ -261,13 +300,27 @@ public class DynamicChunk extends Chunk {
         synchronized (this) {
             heightmapsNBT = getHeightmapNBT();
 
-            data = NetworkBuffer.makeArray(networkBuffer -> {
-                for (Section section : sections) {
-                    networkBuffer.write(SHORT, (short) section.blockPalette().count());
-                    networkBuffer.write(Palette.BLOCK_SERIALIZER, section.blockPalette());
-                    networkBuffer.write(Palette.BIOME_SERIALIZER, section.biomePalette());
+            // Only re-encode the sections modified since the last packet
+            int length = 0;
+            for (int i = 0; i < sectionsData.length; i++) {
+                byte[] sectionData = sectionsData[i];
+                if (sectionData == null) {
+                    final Section section = sections.get(i);
+                    sectionData = NetworkBuffer.makeArray(networkBuffer -> {
+                        networkBuffer.write(SHORT, (short) section.blockPalette().count());
+                        networkBuffer.write(Palette.BLOCK_SERIALIZER, section.blockPalette());
+                        networkBuffer.write(Palette.BIOME_SERIALIZER, section.biomePalette());
+                    });
+                    this.sectionsData[i] = sectionData;
                 }
-            });
+                length += sectionData.length;
+            }
+            data = new byte[length];
+            int offset = 0;
+            for (byte[] sectionData : sectionsData) {
+                System.arraycopy(sectionData, 0, data, offset, sectionData.length);
+                offset += sectionData.length;
+            }
         }
 
         return new ChunkDataPacket(chunkX, chunkZ,
@@ -1,6 +1,7 @@
 package net.minestom.server.instance;
 
 import net.minestom.server.Viewable;
+import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.ExperienceOrb;
@@ -22,11 +23,22 @@ import java.util.function.Consumer;
  * <p>
  * Implementations are expected to be thread-safe.
  */
-public sealed interface EntityTracker permits EntityTrackerImpl {
+public sealed interface EntityTracker permits EntityTrackerImpl, GridEntityTracker {
     static @NotNull EntityTracker newTracker() {
         return new EntityTrackerImpl();
     }
 
+    /**
+     * Creates a tracker indexing entities in a grid of square columns, with their positions stored inline.
+     * Suited for instances with many entities in a small area.
+     *
+     * @param cellSize the width of the grid cells in blocks
+     * @return a new grid tracker
+     */
+    static @NotNull EntityTracker newGridTracker(int cellSize) {
+        return new GridEntityTracker(cellSize);
+    }
+
     /**
      * Register an entity to be tracked.
      */
@@ -80,6 +92,50 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
     <T extends Entity> void nearbyEntities(@NotNull Point point, double range,
                                            @NotNull Target<T> target, @NotNull Consumer<T> query);
 
+    /**
+     * Gets the entities within a box.
+     *
+     * @param min the minimum corner, inclusive
+     * @param max the maximum corner, inclusive
+     */
+    default <T extends Entity> void entitiesInBox(@NotNull Point min, @NotNull Point max,
+                                                  @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final Point center = min.add(max).div(2);
+        nearbyEntities(center, center.distance(max), target, entity -> {
+            final Point position = entity.getPosition();
+            if (position.x() >= min.x() && position.y() >= min.y() && position.z() >= min.z() &&
+                    position.x() <= max.x() && position.y() <= max.y() && position.z() <= max.z()) {
+                query.accept(entity);
+            }
+        });
+    }
+
+    /**
+     * Gets the entities whose bounding box intersects a box.
+     * <p>
+     * Candidates are found by position with {@link #entitiesInBox(Point, Point, Target, Consumer)},
+     * entities whose bounding box is not contained in {@code extent} may be missed.
+     *
+     * @param min    the minimum corner, inclusive
+     * @param max    the maximum corner, inclusive
+     * @param extent a box containing the bounding box of every entity to find, relative to the entity position
+     */
+    default <T extends Entity> void intersectingEntities(@NotNull Point min, @NotNull Point max, @NotNull BoundingBox extent,
+                                                         @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        // Positions of the entities whose extent intersects the box
+        final Point searchMin = min.sub(extent.maxX(), extent.maxY(), extent.maxZ());
+        final Point searchMax = max.sub(extent.minX(), extent.minY(), extent.minZ());
+        entitiesInBox(searchMin, searchMax, target, entity -> {
+            final Point position = entity.getPosition();
+            final BoundingBox boundingBox = entity.getBoundingBox();
+            if (position.x() + boundingBox.minX() <= max.x() && position.x() + boundingBox.maxX() >= min.x() &&
+                    position.y() + boundingBox.minY() <= max.y() && position.y() + boundingBox.maxY() >= min.y() &&
+                    position.z() + boundingBox.minZ() <= max.z() && position.z() + boundingBox.maxZ() >= min.z()) {
+                query.accept(entity);
+            }
+        });
+    }
+
     /**
      * Gets all the entities tracked by this class.
      */
@@ -198,6 +198,30 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
+    @Override
+    public <T extends Entity> void entitiesInBox(@NotNull Point min, @NotNull Point max,
+                                                 @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
+        final int minChunkX = CoordConversion.globalToChunk(min.x());
+        final int minChunkZ = CoordConversion.globalToChunk(min.z());
+        final int maxChunkX = CoordConversion.globalToChunk(max.x());
+        final int maxChunkZ = CoordConversion.globalToChunk(max.z());
+        // Only the columns of the box, whatever its height
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final var chunkEntities = (List<T>) entities.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+                if (chunkEntities == null || chunkEntities.isEmpty()) continue;
+                chunkEntities.forEach(entity -> {
+                    final Point position = entriesByEntityId.get(entity.getEntityId()).getLastPosition();
+                    if (position.x() >= min.x() && position.y() >= min.y() && position.z() >= min.z() &&
+                            position.x() <= max.x() && position.y() <= max.y() && position.z() <= max.z()) {
+                        query.accept(entity);
+                    }
+                });
+            }
+        }
+    }
+
     @Override
     public @UnmodifiableView @NotNull <T extends Entity> Set<@NotNull T> entities(@NotNull Target<T> target) {
         //noinspection unchecked
@@ -207,7 +231,7 @@ final class EntityTrackerImpl implements EntityTracker {
     @Override
     public @NotNull Viewable viewable(@NotNull List<@NotNull SharedInstance> sharedInstances, int chunkX, int chunkZ) {
         var entry = targetEntries[Target.PLAYERS.ordinal()];
-        return entry.viewers.computeIfAbsent(new ChunkViewKey(sharedInstances, chunkX, chunkZ), ChunkView::new);
+        return entry.viewers.computeIfAbsent(new ChunkViewKey(sharedInstances, chunkX, chunkZ), key -> new ChunkView(this, key));
     }
 
     private static class EntityTrackerEntry {
@@ -287,14 +311,16 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
-    private final class ChunkView implements Viewable {
+    static final class ChunkView implements Viewable {
+        private final EntityTracker tracker;
         private final ChunkViewKey key;
         private final int chunkX, chunkZ;
         private final Point point;
         final Set<Player> set = new SetImpl();
         private int lastReferenceCount;
 
-        private ChunkView(ChunkViewKey key) {
+        ChunkView(EntityTracker tracker, ChunkViewKey key) {
+            this.tracker = tracker;
             this.key = key;
 
             this.chunkX = key.chunkX;
@@ -320,7 +346,7 @@ final class EntityTrackerImpl implements EntityTracker {
 
         private Collection<Player> references() {
             Int2ObjectOpenHashMap<Player> entityMap = new Int2ObjectOpenHashMap<>(lastReferenceCount);
-            collectPlayers(EntityTrackerImpl.this, entityMap);
+            collectPlayers(tracker, entityMap);
             if (!key.sharedInstances.isEmpty()) {
                 for (SharedInstance instance : key.sharedInstances) {
                     collectPlayers(instance.getEntityTracker(), entityMap);
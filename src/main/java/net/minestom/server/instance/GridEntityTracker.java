@@ -0,0 +1,491 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMaps;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.Viewable;
+import net.minestom.server.coordinate.ChunkRange;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import space.vectrix.flare.fastutil.Int2ObjectSyncMap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link EntityTracker} indexing entities in a grid of square columns.
+ * <p>
+ * Each target has its own grid, where every entity owns a slot in primitive arrays holding its last position
+ * and the links to the other entities of its cell. Moving within a cell only updates the position,
+ * and queries read positions inline instead of looking up each candidate.
+ * <p>
+ * Queries collect the matching entities into thread-local buffers, and call the consumer once the grid lock
+ * is released so that it can safely modify the tracker.
+ */
+final class GridEntityTracker implements EntityTracker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GridEntityTracker.class);
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final int cellSize;
+    // The array index is the Target ordinal
+    private final Grid[] grids;
+
+    private final Int2ObjectSyncMap<Entity> entitiesById = Int2ObjectSyncMap.hashmap();
+    private final Map<UUID, Entity> entitiesByUuid = new ConcurrentHashMap<>();
+    private final Map<EntityTrackerImpl.ChunkViewKey, EntityTrackerImpl.ChunkView> viewers = new ConcurrentHashMap<>();
+
+    GridEntityTracker(int cellSize) {
+        Check.argCondition(cellSize <= 0, "The cell size must be positive");
+        this.cellSize = cellSize;
+        this.grids = Target.TARGETS.stream().map(target -> new Grid(target.type(), cellSize)).toArray(Grid[]::new);
+    }
+
+    int cellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public <T extends Entity> void register(@NotNull Entity entity, @NotNull Point point,
+                                            @NotNull Target<T> target, @Nullable Update<T> update) {
+        final Entity prevWithId = entitiesById.putIfAbsent(entity.getEntityId(), entity);
+        Check.isTrue(prevWithId == null, "There is already an entity registered with id {0}", entity.getEntityId());
+        final Entity prevWithUuid = entitiesByUuid.putIfAbsent(entity.getUuid(), entity);
+        Check.isTrue(prevWithUuid == null, "There is already an entity registered with uuid {0}", entity.getUuid());
+
+        for (Grid grid : grids) {
+            if (grid.type.isInstance(entity)) grid.add(entity, point.x(), point.y(), point.z());
+        }
+        if (update != null) {
+            update.referenceUpdate(point, this);
+            nearbyEntitiesByChunkRange(point, ServerFlag.ENTITY_VIEW_DISTANCE, target, newEntity -> {
+                if (newEntity == entity) return;
+                update.add(newEntity);
+            });
+        }
+    }
+
+    @Override
+    public <T extends Entity> void unregister(@NotNull Entity entity,
+                                              @NotNull Target<T> target, @Nullable Update<T> update) {
+        if (entitiesById.remove(entity.getEntityId()) == null) return;
+        entitiesByUuid.remove(entity.getUuid());
+        Point point = null;
+        for (Grid grid : grids) {
+            if (!grid.type.isInstance(entity)) continue;
+            final Point position = grid.remove(entity);
+            if (point == null) point = position;
+        }
+        if (point == null) return;
+        if (update != null) {
+            update.referenceUpdate(point, null);
+            nearbyEntitiesByChunkRange(point, ServerFlag.ENTITY_VIEW_DISTANCE, target, newEntity -> {
+                if (newEntity == entity) return;
+                update.remove(newEntity);
+            });
+        }
+    }
+
+    @Override
+    public @Nullable Entity getEntityById(int id) {
+        return entitiesById.get(id);
+    }
+
+    @Override
+    public @Nullable Entity getEntityByUuid(UUID uuid) {
+        return entitiesByUuid.get(uuid);
+    }
+
+    @Override
+    public <T extends Entity> void move(@NotNull Entity entity, @NotNull Point newPoint,
+                                        @NotNull Target<T> target, @Nullable Update<T> update) {
+        if (!entitiesById.containsKey(entity.getEntityId())) {
+            LOGGER.warn("Attempted to move unregistered entity {} in the entity tracker", entity.getEntityId());
+            return;
+        }
+        final long newIndex = CoordConversion.chunkIndex(newPoint);
+        long oldIndex = newIndex;
+        for (Grid grid : grids) {
+            if (grid.type.isInstance(entity)) oldIndex = grid.move(entity, newPoint.x(), newPoint.y(), newPoint.z());
+        }
+        if (oldIndex == newIndex || update == null) return;
+        final Grid grid = grids[target.ordinal()];
+        ChunkRange.chunksInRangeDiffering(newPoint.chunkX(), newPoint.chunkZ(),
+                CoordConversion.chunkIndexGetX(oldIndex), CoordConversion.chunkIndexGetZ(oldIndex),
+                ServerFlag.ENTITY_VIEW_DISTANCE, (chunkX, chunkZ) -> {
+                    // Add
+                    this.<T>chunkRange(grid, chunkX, chunkZ, chunkX, chunkZ, added -> {
+                        if (entity != added) update.add(added);
+                    });
+                }, (chunkX, chunkZ) -> {
+                    // Remove
+                    this.<T>chunkRange(grid, chunkX, chunkZ, chunkX, chunkZ, removed -> {
+                        if (entity != removed) update.remove(removed);
+                    });
+                });
+        update.referenceUpdate(newPoint, this);
+    }
+
+    @Override
+    public @UnmodifiableView <T extends Entity> Collection<T> chunkEntities(int chunkX, int chunkZ, @NotNull Target<T> target) {
+        return new ChunkEntities<>(grids[target.ordinal()], chunkX, chunkZ);
+    }
+
+    @Override
+    public <T extends Entity> void nearbyEntitiesByChunkRange(@NotNull Point point, int chunkRange,
+                                                              @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final int chunkX = point.chunkX(), chunkZ = point.chunkZ();
+        chunkRange(grids[target.ordinal()], chunkX - chunkRange, chunkZ - chunkRange,
+                chunkX + chunkRange, chunkZ + chunkRange, query);
+    }
+
+    @Override
+    public <T extends Entity> void nearbyEntities(@NotNull Point point, double range,
+                                                  @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final Scratch scratch = SCRATCH.get();
+        scratch.query.radius(point.x(), point.y(), point.z(), range);
+        run(scratch, grids[target.ordinal()], cell(point.x() - range), cell(point.z() - range),
+                cell(point.x() + range), cell(point.z() + range), query);
+    }
+
+    @Override
+    public <T extends Entity> void entitiesInBox(@NotNull Point min, @NotNull Point max,
+                                                 @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final Scratch scratch = SCRATCH.get();
+        scratch.query.box(min.x(), min.y(), min.z(), max.x(), max.y(), max.z());
+        run(scratch, grids[target.ordinal()], cell(min.x()), cell(min.z()), cell(max.x()), cell(max.z()), query);
+    }
+
+    @Override
+    public @UnmodifiableView @NotNull <T extends Entity> Set<@NotNull T> entities(@NotNull Target<T> target) {
+        //noinspection unchecked
+        return (Set<T>) grids[target.ordinal()].entitiesView;
+    }
+
+    @Override
+    public @NotNull Viewable viewable(@NotNull List<@NotNull SharedInstance> sharedInstances, int chunkX, int chunkZ) {
+        return viewers.computeIfAbsent(new EntityTrackerImpl.ChunkViewKey(sharedInstances, chunkX, chunkZ),
+                key -> new EntityTrackerImpl.ChunkView(this, key));
+    }
+
+    private <T extends Entity> void chunkRange(Grid grid, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ,
+                                               Consumer<T> query) {
+        final Scratch scratch = SCRATCH.get();
+        scratch.query.chunks(minChunkX, minChunkZ, maxChunkX, maxChunkZ);
+        run(scratch, grid,
+                Math.floorDiv(minChunkX * Chunk.CHUNK_SIZE_X, cellSize),
+                Math.floorDiv(minChunkZ * Chunk.CHUNK_SIZE_Z, cellSize),
+                Math.floorDiv(maxChunkX * Chunk.CHUNK_SIZE_X + Chunk.CHUNK_SIZE_X - 1, cellSize),
+                Math.floorDiv(maxChunkZ * Chunk.CHUNK_SIZE_Z + Chunk.CHUNK_SIZE_Z - 1, cellSize),
+                query);
+    }
+
+    private <T extends Entity> void run(Scratch scratch, Grid grid,
+                                        int minCellX, int minCellZ, int maxCellX, int maxCellZ,
+                                        Consumer<T> query) {
+        final int depth = scratch.depth++;
+        int count = 0;
+        try {
+            count = grid.collect(scratch, depth, minCellX, minCellZ, maxCellX, maxCellZ);
+            final Entity[] buffer = scratch.buffers[depth];
+            for (int i = 0; i < count; i++) {
+                //noinspection unchecked
+                query.accept((T) buffer[i]);
+            }
+        } finally {
+            Arrays.fill(scratch.buffers[depth], 0, count, null);
+            scratch.depth--;
+        }
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellIndex(int cellX, int cellZ) {
+        return CoordConversion.chunkIndex(cellX, cellZ);
+    }
+
+    private static final class Grid {
+        private static final int NONE = -1;
+
+        final Class<? extends Entity> type;
+        final int cellSize;
+        final Set<Entity> entities = ConcurrentHashMap.newKeySet(); // Thread-safe since exposed
+        final Set<Entity> entitiesView = Collections.unmodifiableSet(entities);
+
+        private final StampedLock lock = new StampedLock();
+        // Guarded by the lock
+        private final Int2IntOpenHashMap slots = new Int2IntOpenHashMap(); // Entity id -> slot
+        private final Long2IntOpenHashMap heads = new Long2IntOpenHashMap(); // Cell index -> first slot
+        private final IntArrayList freeSlots = new IntArrayList();
+        private Entity[] slotEntities = new Entity[16];
+        private double[] xs = new double[16], ys = new double[16], zs = new double[16];
+        private long[] cells = new long[16];
+        private int[] next = new int[16], prev = new int[16];
+        private int slotCount;
+
+        Grid(Class<? extends Entity> type, int cellSize) {
+            this.type = type;
+            this.cellSize = cellSize;
+            this.slots.defaultReturnValue(NONE);
+            this.heads.defaultReturnValue(NONE);
+        }
+
+        void add(Entity entity, double x, double y, double z) {
+            final long stamp = lock.writeLock();
+            try {
+                final int slot = freeSlots.isEmpty() ? allocate() : freeSlots.popInt();
+                this.slotEntities[slot] = entity;
+                this.xs[slot] = x;
+                this.ys[slot] = y;
+                this.zs[slot] = z;
+                this.slots.put(entity.getEntityId(), slot);
+                link(slot, cell(x, z));
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            this.entities.add(entity);
+        }
+
+        @Nullable Point remove(Entity entity) {
+            this.entities.remove(entity);
+            final long stamp = lock.writeLock();
+            try {
+                final int slot = slots.remove(entity.getEntityId());
+                if (slot == NONE) return null;
+                unlink(slot);
+                this.slotEntities[slot] = null;
+                this.freeSlots.add(slot);
+                return new Vec(xs[slot], ys[slot], zs[slot]);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Updates the position of an entity.
+         *
+         * @return the chunk index of the previous position
+         */
+        long move(Entity entity, double x, double y, double z) {
+            final long stamp = lock.writeLock();
+            try {
+                final int slot = slots.get(entity.getEntityId());
+                if (slot == NONE) return CoordConversion.chunkIndex(CoordConversion.globalToChunk(x), CoordConversion.globalToChunk(z));
+                final long previous = CoordConversion.chunkIndex(
+                        CoordConversion.globalToChunk(xs[slot]), CoordConversion.globalToChunk(zs[slot]));
+                this.xs[slot] = x;
+                this.ys[slot] = y;
+                this.zs[slot] = z;
+                final long cell = cell(x, z);
+                if (cell != cells[slot]) {
+                    unlink(slot);
+                    link(slot, cell);
+                }
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Collects the entities of the cells in range matching the scratch query.
+         *
+         * @return the number of entities written to the buffer at {@code depth}
+         */
+        int collect(Scratch scratch, int depth, int minCellX, int minCellZ, int maxCellX, int maxCellZ) {
+            final Query query = scratch.query;
+            Entity[] buffer = scratch.buffer(depth);
+            int count = 0;
+            final long stamp = lock.readLock();
+            try {
+                final long cellCount = ((long) maxCellX - minCellX + 1) * ((long) maxCellZ - minCellZ + 1);
+                if (cellCount > heads.size()) {
+                    // Fewer occupied cells than cells in range
+                    for (Long2IntMap.Entry entry : Long2IntMaps.fastIterable(heads)) {
+                        final long cell = entry.getLongKey();
+                        final int cellX = CoordConversion.chunkIndexGetX(cell);
+                        final int cellZ = CoordConversion.chunkIndexGetZ(cell);
+                        if (cellX < minCellX || cellX > maxCellX || cellZ < minCellZ || cellZ > maxCellZ) continue;
+                        for (int slot = entry.getIntValue(); slot != NONE; slot = next[slot]) {
+                            if (!query.test(xs[slot], ys[slot], zs[slot])) continue;
+                            if (count == buffer.length) buffer = scratch.grow(depth);
+                            buffer[count++] = slotEntities[slot];
+                        }
+                    }
+                } else {
+                    for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                        for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                            for (int slot = heads.get(cellIndex(cellX, cellZ)); slot != NONE; slot = next[slot]) {
+                                if (!query.test(xs[slot], ys[slot], zs[slot])) continue;
+                                if (count == buffer.length) buffer = scratch.grow(depth);
+                                buffer[count++] = slotEntities[slot];
+                            }
+                        }
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+            return count;
+        }
+
+        private long cell(double x, double z) {
+            return cellIndex((int) Math.floor(x / cellSize), (int) Math.floor(z / cellSize));
+        }
+
+        private int allocate() {
+            if (slotCount == slotEntities.length) {
+                final int capacity = slotCount * 2;
+                this.slotEntities = Arrays.copyOf(slotEntities, capacity);
+                this.xs = Arrays.copyOf(xs, capacity);
+                this.ys = Arrays.copyOf(ys, capacity);
+                this.zs = Arrays.copyOf(zs, capacity);
+                this.cells = Arrays.copyOf(cells, capacity);
+                this.next = Arrays.copyOf(next, capacity);
+                this.prev = Arrays.copyOf(prev, capacity);
+            }
+            return slotCount++;
+        }
+
+        private void link(int slot, long cell) {
+            final int head = heads.put(cell, slot);
+            this.cells[slot] = cell;
+            this.prev[slot] = NONE;
+            this.next[slot] = head;
+            if (head != NONE) this.prev[head] = slot;
+        }
+
+        private void unlink(int slot) {
+            final int previous = prev[slot], following = next[slot];
+            if (following != NONE) this.prev[following] = previous;
+            if (previous != NONE) {
+                this.next[previous] = following;
+            } else if (following != NONE) {
+                this.heads.put(cells[slot], following);
+            } else {
+                this.heads.remove(cells[slot]);
+            }
+        }
+    }
+
+    /**
+     * Live view of the entities in a chunk, each call queries the grid.
+     */
+    private final class ChunkEntities<T extends Entity> extends AbstractCollection<T> {
+        private final Grid grid;
+        private final int chunkX, chunkZ;
+
+        ChunkEntities(Grid grid, int chunkX, int chunkZ) {
+            this.grid = grid;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        @Override
+        public @NotNull Iterator<T> iterator() {
+            List<T> entities = new ArrayList<>();
+            forEach(entities::add);
+            return Collections.unmodifiableList(entities).iterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action) {
+            chunkRange(grid, chunkX, chunkZ, chunkX, chunkZ, action::accept);
+        }
+
+        @Override
+        public int size() {
+            int[] size = new int[1];
+            forEach(entity -> size[0]++);
+            return size[0];
+        }
+    }
+
+    /**
+     * Filter of the current query, only read while collecting.
+     */
+    private static final class Query {
+        private static final int BOX = 0, RADIUS = 1, CHUNKS = 2;
+
+        private int mode;
+        private double minX, minY, minZ, maxX, maxY, maxZ;
+        private double rangeSquared;
+
+        void box(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+            this.mode = BOX;
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+        }
+
+        void radius(double x, double y, double z, double range) {
+            this.mode = RADIUS;
+            // Center stored in the minimum corner
+            this.minX = x;
+            this.minY = y;
+            this.minZ = z;
+            this.rangeSquared = range * range;
+        }
+
+        void chunks(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+            this.mode = CHUNKS;
+            this.minX = minChunkX;
+            this.minZ = minChunkZ;
+            this.maxX = maxChunkX;
+            this.maxZ = maxChunkZ;
+        }
+
+        boolean test(double x, double y, double z) {
+            return switch (mode) {
+                case BOX -> x >= minX && y >= minY && z >= minZ && x <= maxX && y <= maxY && z <= maxZ;
+                case RADIUS -> {
+                    final double dx = x - minX, dy = y - minY, dz = z - minZ;
+                    yield dx * dx + dy * dy + dz * dz <= rangeSquared;
+                }
+                default -> {
+                    final int chunkX = CoordConversion.globalToChunk(x);
+                    final int chunkZ = CoordConversion.globalToChunk(z);
+                    yield chunkX >= minX && chunkX <= maxX && chunkZ >= minZ && chunkZ <= maxZ;
+                }
+            };
+        }
+    }
+
+    /**
+     * Per-thread buffers, one per nested query as consumers may query the tracker again.
+     */
+    private static final class Scratch {
+        final Query query = new Query();
+        Entity[][] buffers = new Entity[4][];
+        int depth;
+
+        Entity[] buffer(int depth) {
+            if (depth == buffers.length) this.buffers = Arrays.copyOf(buffers, depth * 2);
+            Entity[] buffer = buffers[depth];
+            if (buffer == null) buffers[depth] = buffer = new Entity[64];
+            return buffer;
+        }
+
+        Entity[] grow(int depth) {
+            final Entity[] buffer = buffers[depth];
+            return buffers[depth] = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+    }
+}
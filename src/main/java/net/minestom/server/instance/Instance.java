@@ -53,6 +53,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -98,10 +99,12 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     // Field for tick events
     private long lastTickAge = System.currentTimeMillis();
 
-    private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private volatile EntityTracker entityTracker = new EntityTrackerImpl();
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
+    private final LightEngine lightEngine = new LightEngine(this);
+
     // the uuid of this instance
     protected UUID uuid;
 
@@ -745,6 +748,20 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return entityTracker;
     }
 
+    /**
+     * Changes how entities are tracked in this instance, e.g. {@link EntityTracker#newGridTracker(int)}
+     * for instances with many entities close to each other.
+     * <p>
+     * Can only be changed before any chunk or entity is loaded.
+     *
+     * @param entityTracker the new entity tracker
+     */
+    public void setEntityTracker(@NotNull EntityTracker entityTracker) {
+        Check.stateCondition(!this.entityTracker.entities().isEmpty() || !getChunks().isEmpty(),
+                "The entity tracker can only be changed before any chunk or entity is loaded");
+        this.entityTracker = entityTracker;
+    }
+
     /**
      * Gets the instance unique id.
      *
@@ -807,6 +824,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
             if (worldBorder.diameter() == targetBorderDiameter) remainingWorldBorderTransitionTicks = 0;
             else remainingWorldBorderTransitionTicks--;
         }
+        // Light updates
+        this.lightEngine.tick();
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
     }
@@ -971,6 +990,21 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return this.pointers;
     }
 
+    /**
+     * Changes the executor used to compute the light of the {@link LightingChunk lighting chunks} of this instance.
+     * <p>
+     * By default, all instances share a pool of {@link ServerFlag#LIGHTING_THREADS} threads.
+     *
+     * @param executor the new lighting executor
+     */
+    public void setLightingExecutor(@NotNull Executor executor) {
+        this.lightEngine.setExecutor(executor);
+    }
+
+    @NotNull LightEngine lightEngine() {
+        return lightEngine;
+    }
+
     public int getBlockLight(int blockX, int blockY, int blockZ) {
         var chunk = getChunkAt(blockX, blockZ);
         if (chunk == null) return 0;
@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
@@ -47,7 +48,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static net.minestom.server.utils.chunk.ChunkUtils.isLoaded;
@@ -72,13 +72,18 @@ public class InstanceContainer extends Instance {
     // (chunk index -> chunk) map, contains all the chunks in the instance
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
-    private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    // loads and generates the requested chunks
+    private final ChunkGenerationScheduler generationScheduler = new ChunkGenerationScheduler(this, ServerFlag.CHUNK_GENERATION_THREADS);
+    // held while loading from a loader which doesn't support parallel loading
+    private final Lock serialLoadingLock = new ReentrantLock();
 
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private IChunkLoader chunkLoader;
+    // saves the modified chunks in the background, null if disabled
+    private volatile ChunkAutosave autosave;
 
     // used to automatically enable the chunk loading or not
     private boolean autoChunkLoad = true;
@@ -272,6 +277,8 @@ public class InstanceContainer extends Instance {
         this.chunks.remove(CoordConversion.chunkIndex(chunkX, chunkZ));
         chunk.unload();
         chunkLoader.unloadChunk(chunk);
+        final ChunkAutosave autosave = this.autosave;
+        if (autosave != null) autosave.forget(chunk);
         var dispatcher = MinecraftServer.process().dispatcher();
         dispatcher.deletePartition(chunk);
     }
@@ -296,6 +303,12 @@ public class InstanceContainer extends Instance {
     @Override
     public @NotNull CompletableFuture<Void> saveChunksToStorage() {
         final IChunkLoader chunkLoader = this.chunkLoader;
+        final ChunkAutosave autosave = this.autosave;
+        if (autosave != null) {
+            // Changes made during the save are newer and will be saved again
+            final long time = System.currentTimeMillis();
+            for (Chunk chunk : getChunks()) autosave.markSaved(chunk, time);
+        }
         return optionalAsync(chunkLoader.supportsParallelSaving(), () -> chunkLoader.saveChunks(getChunks()));
     }
 
@@ -317,12 +330,24 @@ public class InstanceContainer extends Instance {
     }
 
     protected @NotNull CompletableFuture<@NotNull Chunk> retrieveChunk(int chunkX, int chunkZ) {
-        CompletableFuture<Chunk> completableFuture = new CompletableFuture<>();
-        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
-        final CompletableFuture<Chunk> prev = loadingChunks.putIfAbsent(index, completableFuture);
-        if (prev != null) return prev;
         final IChunkLoader loader = chunkLoader;
-        final Consumer<Chunk> generate = chunk -> {
+        return generationScheduler.request(chunkX, chunkZ, () -> {
+            Chunk chunk;
+            if (loader.supportsParallelLoading()) {
+                chunk = loader.loadChunk(this, chunkX, chunkZ);
+            } else {
+                serialLoadingLock.lock();
+                try {
+                    chunk = loader.loadChunk(this, chunkX, chunkZ);
+                } finally {
+                    serialLoadingLock.unlock();
+                }
+            }
+            final ChunkAutosave autosave = this.autosave;
+            if (chunk != null && autosave != null) {
+                // Loaded chunks are already in storage
+                autosave.markSaved(chunk, System.currentTimeMillis());
+            }
             if (chunk == null) {
                 // Loader couldn't load the chunk, generate it
                 chunk = createChunk(chunkX, chunkZ);
@@ -334,30 +359,8 @@ public class InstanceContainer extends Instance {
             chunk.onLoad();
 
             EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
-            final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
-            assert future == completableFuture : "Invalid future: " + future;
-            completableFuture.complete(chunk);
-        };
-        if (loader.supportsParallelLoading()) {
-            Thread.startVirtualThread(() -> {
-                try {
-                    final Chunk chunk = loader.loadChunk(this, chunkX, chunkZ);
-                    generate.accept(chunk);
-                } catch (Throwable e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-            });
-        } else {
-            final Chunk chunk = loader.loadChunk(this, chunkX, chunkZ);
-            Thread.startVirtualThread(() -> {
-                try {
-                    generate.accept(chunk);
-                } catch (Throwable e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-            });
-        }
-        return completableFuture;
+            return chunk;
+        });
     }
 
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
@@ -628,6 +631,46 @@ public class InstanceContainer extends Instance {
         this.chunkLoader = Objects.requireNonNull(chunkLoader, "Chunk loader cannot be null");
     }
 
+    /**
+     * Enables the background saving of modified chunks, replacing the previous autosave if any.
+     * <p>
+     * Only the chunks modified since their last save are written, see {@link ChunkAutosave}.
+     *
+     * @param intervalTicks  the number of ticks between two scans for modified chunks
+     * @param bytesPerSecond the maximum amount of chunk data to save every second
+     * @return the new autosave
+     */
+    public @NotNull ChunkAutosave enableAutosave(int intervalTicks, long bytesPerSecond) {
+        final ChunkAutosave autosave = new ChunkAutosave(this, intervalTicks, bytesPerSecond);
+        this.autosave = autosave;
+        return autosave;
+    }
+
+    /**
+     * Disables the background saving of modified chunks, saves already started are not cancelled.
+     */
+    public void disableAutosave() {
+        this.autosave = null;
+    }
+
+    /**
+     * Gets the autosave of this instance.
+     *
+     * @return the autosave, null if disabled
+     */
+    public @Nullable ChunkAutosave getAutosave() {
+        return autosave;
+    }
+
+    /**
+     * Gets the scheduler loading and generating the chunks of this instance.
+     *
+     * @return the generation scheduler
+     */
+    public @NotNull ChunkGenerationScheduler getGenerationScheduler() {
+        return generationScheduler;
+    }
+
     @Override
     public void tick(long time) {
         // Time/world border
@@ -637,6 +680,11 @@ public class InstanceContainer extends Instance {
         wrlock.lock();
         this.currentlyChangingBlocks.clear();
         wrlock.unlock();
+        // Save modified chunks
+        final ChunkAutosave autosave = this.autosave;
+        if (autosave != null) autosave.tick();
+        // Start the chunks closest to the players first
+        this.generationScheduler.tick();
     }
 
     /**
@@ -0,0 +1,419 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.LightingChunk.LightType;
+import net.minestom.server.instance.light.Light;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.packet.server.SendablePacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Computes the light of the {@link LightingChunk lighting chunks} of an instance.
+ * <p>
+ * Light is propagated in waves of sections. All the sections of a wave are computed in parallel on the engine executor,
+ * reading their neighbours as they were at the end of the previous wave, until no section border changes anymore.
+ * <p>
+ * Relights of distinct areas run concurrently: each one locks, all at once, the chunk columns it may write (the sections
+ * to relight and their neighbours) exclusively and the ones it only reads (one more ring) shared with other readers.
+ * <p>
+ * Scheduled resends are relit without blocking the instance tick, their packets are sent once all the waves completed.
+ */
+final class LightEngine {
+    static final Executor DEFAULT_EXECUTOR = Executors.newWorkStealingPool(ServerFlag.LIGHTING_THREADS);
+
+    // Light crosses at most one section border (15 levels), so propagation writes at most one column
+    // away from the relit sections, and computing those border sections reads their own neighbours
+    private static final int WRITE_RADIUS = 1;
+    private static final int READ_RADIUS = 2;
+    private static final int WRITTEN = -1;
+
+    private enum QueueType {
+        INTERNAL,
+        EXTERNAL
+    }
+
+    private final Instance instance;
+    // Columns locked by the running relights, either WRITTEN or their number of readers. Guarded by itself,
+    // not tied to a thread as the asynchronous relights release them from another one
+    private final Long2IntMap lockedColumns = new Long2IntOpenHashMap();
+    private final Set<LightingChunk> pendingSends = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile Executor executor = DEFAULT_EXECUTOR;
+
+    LightEngine(@NotNull Instance instance) {
+        this.instance = instance;
+    }
+
+    void setExecutor(@NotNull Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Schedules the light of a chunk to be sent to its viewers at the next instance tick.
+     */
+    void scheduleSend(@NotNull LightingChunk chunk) {
+        this.pendingSends.add(chunk);
+    }
+
+    /**
+     * Relights the sections of the scheduled chunks together on the engine executor, then sends their light,
+     * grouping all the packets of a viewer.
+     * <p>
+     * Never waits for the relight: the chunks stay scheduled while a previous relight is running
+     * or while their area is locked by another one.
+     */
+    void tick() {
+        if (pendingSends.isEmpty()) return;
+        if (!sending.compareAndSet(false, true)) return;
+        ColumnLock locked = null;
+        try {
+            List<LightingChunk> chunks = new ArrayList<>(pendingSends);
+
+            // Neighbouring chunks share most of their invalidated sections, compute them once
+            Set<Point> blockSections = new HashSet<>();
+            Set<Point> skySections = new HashSet<>();
+            for (LightingChunk chunk : chunks) {
+                if (!chunk.isLoaded()) continue;
+                for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++) {
+                    final Section section = chunk.getSection(sectionY);
+                    final Point point = new Vec(chunk.getChunkX(), sectionY, chunk.getChunkZ());
+                    if (section.blockLight().requiresUpdate()) blockSections.add(point);
+                    if (section.skyLight().requiresUpdate()) skySections.add(point);
+                }
+            }
+            Set<Point> area = new HashSet<>(blockSections);
+            area.addAll(skySections);
+            final ColumnLock lock = columnLock(area);
+            if (!tryLockColumns(lock)) {
+                // Retried next tick
+                sending.set(false);
+                return;
+            }
+            locked = lock;
+            pendingSends.removeAll(chunks);
+
+            flushQueueAsync(blockSections, LightType.BLOCK)
+                    .thenCompose(ignored -> flushQueueAsync(skySections, LightType.SKY))
+                    .whenComplete((ignored, throwable) -> {
+                        unlockColumns(lock);
+                        try {
+                            if (throwable != null) {
+                                MinecraftServer.getExceptionManager().handleException(throwable);
+                                return;
+                            }
+                            Map<Player, List<SendablePacket>> packets = new HashMap<>();
+                            for (LightingChunk chunk : chunks) {
+                                if (!chunk.isLoaded()) continue;
+                                for (Player viewer : chunk.getViewers()) {
+                                    packets.computeIfAbsent(viewer, p -> new ArrayList<>()).add(chunk.partialLightCache);
+                                }
+                            }
+                            packets.forEach(Player::sendPackets);
+                        } finally {
+                            sending.set(false);
+                        }
+                    });
+        } catch (Throwable e) {
+            // Failed before the relight could complete (e.g. rejected by the executor), it will never release them
+            if (locked != null) unlockColumns(locked);
+            sending.set(false);
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    /**
+     * Invalidates and relights whole chunks.
+     *
+     * @return the chunks which have been relit
+     */
+    @NotNull List<Chunk> relight(@NotNull Collection<Chunk> chunks) {
+        Set<Point> sections = new HashSet<>();
+        for (Chunk chunk : chunks) {
+            if (!(chunk instanceof LightingChunk lighting)) continue;
+            for (int sectionIndex = chunk.minSection; sectionIndex < chunk.maxSection; sectionIndex++) {
+                Section section = chunk.getSection(sectionIndex);
+                section.blockLight().invalidate();
+                section.skyLight().invalidate();
+                sections.add(new Vec(chunk.getChunkX(), sectionIndex, chunk.getChunkZ()));
+            }
+            lighting.invalidateLight();
+        }
+
+        // Expand the sections to include nearby sections
+        var blockSections = new HashSet<Point>();
+        for (Point point : sections) {
+            blockSections.addAll(getNearbyRequired(point, LightType.BLOCK));
+        }
+
+        var skySections = new HashSet<Point>();
+        for (Point point : sections) {
+            skySections.addAll(getNearbyRequired(point, LightType.SKY));
+        }
+
+        Set<Point> area = new HashSet<>(blockSections);
+        area.addAll(skySections);
+        final ColumnLock lock = columnLock(area);
+        lockColumns(lock);
+        try {
+            flushQueue(blockSections, LightType.BLOCK);
+            flushQueue(skySections, LightType.SKY);
+        } finally {
+            unlockColumns(lock);
+        }
+
+        var chunksToRelight = new HashSet<Chunk>();
+        for (Point point : area) {
+            chunksToRelight.add(instance.getChunk(point.blockX(), point.blockZ()));
+        }
+        return new ArrayList<>(chunksToRelight);
+    }
+
+    /**
+     * Relights a section and all the invalidated sections connected to it.
+     *
+     * @return the chunks which have been relit
+     */
+    @NotNull Set<Chunk> relightSection(int chunkX, int sectionY, int chunkZ, @NotNull LightType type) {
+        Chunk c = instance.getChunk(chunkX, chunkZ);
+        if (!(c instanceof LightingChunk)) return Set.of();
+        return relightSections(collectRequiredNearby(new Vec(chunkX, sectionY, chunkZ), type), type);
+    }
+
+    private Set<Chunk> relightSections(Set<Point> sections, LightType type) {
+        if (sections.isEmpty()) return Set.of();
+        final ColumnLock lock = columnLock(sections);
+        lockColumns(lock);
+        try {
+            return flushQueue(sections, type);
+        } finally {
+            unlockColumns(lock);
+        }
+    }
+
+    private Set<Chunk> flushQueue(Set<Point> queue, LightType type) {
+        return flushQueueAsync(queue, type).join();
+    }
+
+    private CompletableFuture<Set<Chunk>> flushQueueAsync(Set<Point> queue, LightType type) {
+        Set<Chunk> responseChunks = ConcurrentHashMap.newKeySet();
+        return flushWave(queue, QueueType.INTERNAL, type, responseChunks).thenApply(ignored -> responseChunks);
+    }
+
+    /**
+     * Computes the sections of a wave in parallel, then the wave of the sections they changed.
+     */
+    private CompletableFuture<Void> flushWave(Set<Point> queue, QueueType waveType, LightType type, Set<Chunk> responseChunks) {
+        if (queue.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        Light.LightLookup lightLookup = (x, y, z) -> {
+            Chunk chunk = instance.getChunk(x, z);
+            if (chunk == null) return null;
+            if (!(chunk instanceof LightingChunk lighting)) return null;
+            if (y - lighting.getMinSection() < 0 || y - lighting.getMaxSection() >= 0) return null;
+            final Section section = lighting.getSection(y);
+            return switch (type) {
+                case BLOCK -> section.blockLight();
+                case SKY -> section.skyLight();
+            };
+        };
+
+        Light.PaletteLookup paletteLookup = (x, y, z) -> {
+            Chunk chunk = instance.getChunk(x, z);
+            if (chunk == null) return null;
+            if (!(chunk instanceof LightingChunk lighting)) return null;
+            if (y - lighting.getMinSection() < 0 || y - lighting.getMaxSection() >= 0) return null;
+            return chunk.getSection(y).blockPalette();
+        };
+
+        final Executor executor = this.executor;
+        Set<Point> newQueue = ConcurrentHashMap.newKeySet();
+        List<Light> lights = new ArrayList<>(queue.size());
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(queue.size());
+        for (Point point : queue) {
+            Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
+            if (!(chunk instanceof LightingChunk lightingChunk)) continue;
+
+            Section section = chunk.getSection(point.blockY());
+            responseChunks.add(chunk);
+
+            Light light = switch (type) {
+                case BLOCK -> section.blockLight();
+                case SKY -> section.skyLight();
+            };
+            lights.add(light);
+
+            final Palette blockPalette = section.blockPalette();
+            tasks.add(CompletableFuture.runAsync(() -> {
+                final Set<Point> toAdd = switch (waveType) {
+                    case INTERNAL -> light.calculateInternal(blockPalette,
+                            chunk.getChunkX(), point.blockY(), chunk.getChunkZ(),
+                            lightingChunk.getOcclusionMap(), instance.getCachedDimensionType().maxY(),
+                            lightLookup);
+                    case EXTERNAL -> light.calculateExternal(blockPalette,
+                            Light.getNeighbors(chunk, point.blockY()),
+                            lightLookup, paletteLookup);
+                };
+                newQueue.addAll(toAdd);
+            }, executor));
+        }
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).thenCompose(ignored -> {
+            // Only publish the wave once all its sections have been computed from the same state
+            lights.forEach(Light::flip);
+            return flushWave(newQueue, QueueType.EXTERNAL, type, responseChunks);
+        });
+    }
+
+    private Set<Point> getNearbyRequired(Point point, LightType type) {
+        Set<Point> collected = new HashSet<>();
+        collected.add(point);
+
+        int highestRegionPoint = instance.getCachedDimensionType().minY() - 1;
+
+        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
+            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+                Chunk chunkCheck = instance.getChunk(x, z);
+                if (chunkCheck == null) continue;
+
+                if (chunkCheck instanceof LightingChunk lighting) {
+                    // Ensure heightmap is calculated before taking values from it
+                    lighting.getOcclusionMap();
+                    highestRegionPoint = Math.max(highestRegionPoint, lighting.highestBlock());
+                }
+            }
+        }
+
+        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
+            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+                Chunk chunkCheck = instance.getChunk(x, z);
+                if (chunkCheck == null) continue;
+
+                for (int y = point.blockY() - 1; y <= point.blockY() + 1; y++) {
+                    Point sectionPosition = new Vec(x, y, z);
+                    int sectionHeight = instance.getCachedDimensionType().minY() + 16 * y;
+                    if ((sectionHeight + 16) > highestRegionPoint && type == LightType.SKY) continue;
+
+                    if (sectionPosition.blockY() < chunkCheck.getMaxSection() && sectionPosition.blockY() >= chunkCheck.getMinSection()) {
+                        Section s = chunkCheck.getSection(sectionPosition.blockY());
+                        if (type == LightType.BLOCK && !s.blockLight().requiresUpdate()) continue;
+                        if (type == LightType.SKY && !s.skyLight().requiresUpdate()) continue;
+
+                        collected.add(sectionPosition);
+                    }
+                }
+            }
+        }
+
+        return collected;
+    }
+
+    private Set<Point> collectRequiredNearby(Point point, LightType type) {
+        final Set<Point> found = new HashSet<>();
+        final ArrayDeque<Point> toCheck = new ArrayDeque<>();
+
+        toCheck.add(point);
+        found.add(point);
+
+        while (!toCheck.isEmpty()) {
+            final Point current = toCheck.poll();
+            final Set<Point> nearby = getNearbyRequired(current, type);
+            nearby.forEach(p -> {
+                if (!found.contains(p)) {
+                    found.add(p);
+                    toCheck.add(p);
+                }
+            });
+        }
+
+        return found;
+    }
+
+    private void lockColumns(ColumnLock lock) {
+        boolean interrupted = false;
+        synchronized (lockedColumns) {
+            // All or nothing, prevents deadlocks between overlapping relights
+            while (!isAvailable(lock)) {
+                try {
+                    lockedColumns.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            acquire(lock);
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Locks the columns of the sections without waiting.
+     *
+     * @return false if any was locked by another relight
+     */
+    private boolean tryLockColumns(ColumnLock lock) {
+        synchronized (lockedColumns) {
+            if (!isAvailable(lock)) return false;
+            acquire(lock);
+            return true;
+        }
+    }
+
+    private void unlockColumns(ColumnLock lock) {
+        synchronized (lockedColumns) {
+            for (long column : lock.written()) lockedColumns.remove(column);
+            for (long column : lock.read()) {
+                final int readers = lockedColumns.get(column) - 1;
+                if (readers == 0) lockedColumns.remove(column);
+                else lockedColumns.put(column, readers);
+            }
+            lockedColumns.notifyAll();
+        }
+    }
+
+    private boolean isAvailable(ColumnLock lock) {
+        for (long column : lock.written()) {
+            if (lockedColumns.containsKey(column)) return false;
+        }
+        for (long column : lock.read()) {
+            if (lockedColumns.get(column) == WRITTEN) return false;
+        }
+        return true;
+    }
+
+    private void acquire(ColumnLock lock) {
+        for (long column : lock.written()) lockedColumns.put(column, WRITTEN);
+        for (long column : lock.read()) lockedColumns.put(column, lockedColumns.get(column) + 1);
+    }
+
+    private static ColumnLock columnLock(Collection<Point> sections) {
+        LongSet written = new LongOpenHashSet();
+        LongSet read = new LongOpenHashSet();
+        for (Point point : sections) {
+            for (int x = point.blockX() - READ_RADIUS; x <= point.blockX() + READ_RADIUS; x++) {
+                for (int z = point.blockZ() - READ_RADIUS; z <= point.blockZ() + READ_RADIUS; z++) {
+                    final boolean writes = Math.abs(x - point.blockX()) <= WRITE_RADIUS && Math.abs(z - point.blockZ()) <= WRITE_RADIUS;
+                    (writes ? written : read).add(CoordConversion.chunkIndex(x, z));
+                }
+            }
+        }
+        read.removeAll(written);
+        return new ColumnLock(written, read);
+    }
+
+    private record ColumnLock(LongSet written, LongSet read) {
+    }
+}
@@ -4,24 +4,16 @@ import net.kyori.adventure.key.Key;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.Shape;
 import net.minestom.server.coordinate.CoordConversion;
-import net.minestom.server.coordinate.Point;
-import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
-import net.minestom.server.instance.light.Light;
-import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.data.LightData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -35,8 +27,6 @@ import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
  */
 public class LightingChunk extends DynamicChunk {
 
-    private static final ExecutorService pool = Executors.newWorkStealingPool();
-
     private int[] occlusionMap;
     final CachedPacket partialLightCache = new CachedPacket(this::createLightPacket);
     private LightData partialLightData;
@@ -56,11 +46,6 @@ public class LightingChunk extends DynamicChunk {
         BLOCK
     }
 
-    private enum QueueType {
-        INTERNAL,
-        EXTERNAL
-    }
-
     private static final Set<Key> DIFFUSE_SKY_LIGHT = Set.of(
             Block.COBWEB.key(),
             Block.ICE.key(),
@@ -87,7 +72,16 @@ public class LightingChunk extends DynamicChunk {
             Block.LAVA.key()
     );
 
+    @Override
     public void invalidate() {
+        super.invalidate();
+        invalidateLight();
+    }
+
+    /**
+     * Invalidates the cached light data and packets, keeping the encoded sections as blocks didn't change.
+     */
+    void invalidateLight() {
         this.partialLightCache.invalidate();
         this.chunkCache.invalidate();
         this.partialLightData = null;
@@ -124,7 +118,7 @@ public class LightingChunk extends DynamicChunk {
                 if (neighborChunk == null) continue;
 
                 if (neighborChunk instanceof LightingChunk light) {
-                    light.invalidate();
+                    light.invalidateLight();
                 }
 
                 for (int k = -1; k <= 1; k++) {
@@ -197,7 +191,7 @@ public class LightingChunk extends DynamicChunk {
                 if (neighborChunk instanceof LightingChunk light) {
                     if (light.doneInit) {
                         light.resendTimer.set(20);
-                        light.invalidate();
+                        light.invalidateLight();
 
                         for (int section = minSection; section < maxSection; section++) {
                             light.getSection(section).blockLight().invalidate();
@@ -238,6 +232,10 @@ public class LightingChunk extends DynamicChunk {
         return occlusionMap;
     }
 
+    int highestBlock() {
+        return highestBlock;
+    }
+
     @Override
     protected LightData createLightData(boolean requiredFullChunk) {
         packetGenerationLock.lock();
@@ -341,196 +339,26 @@ public class LightingChunk extends DynamicChunk {
 
         if (doneInit && resendTimer.get() > 0) {
             if (resendTimer.decrementAndGet() == 0) {
-                sendLighting();
+                // Sent with the other chunks of the instance, see LightEngine
+                instance.lightEngine().scheduleSend(this);
             }
         }
     }
 
-    private static Set<Chunk> flushQueue(Instance instance, Set<Point> queue, LightType type, QueueType queueType) {
-        Set<Light> sections = ConcurrentHashMap.newKeySet();
-        Set<Point> newQueue = ConcurrentHashMap.newKeySet();
-
-        Set<Chunk> responseChunks = ConcurrentHashMap.newKeySet();
-        List<CompletableFuture<Void>> tasks = new ArrayList<>();
-
-        Light.LightLookup lightLookup = (x, y, z) -> {
-            Chunk chunk = instance.getChunk(x, z);
-            if (chunk == null) return null;
-            if (!(chunk instanceof LightingChunk lighting)) return null;
-            if (y - lighting.getMinSection() < 0 || y - lighting.getMaxSection() >= 0) return null;
-            final Section section = lighting.getSection(y);
-            return switch (type) {
-                case BLOCK -> section.blockLight();
-                case SKY -> section.skyLight();
-            };
-        };
-
-        Light.PaletteLookup paletteLookup = (x, y, z) -> {
-            Chunk chunk = instance.getChunk(x, z);
-            if (chunk == null) return null;
-            if (!(chunk instanceof LightingChunk lighting)) return null;
-            if (y - lighting.getMinSection() < 0 || y - lighting.getMaxSection() >= 0) return null;
-            return chunk.getSection(y).blockPalette();
-        };
-
-        for (Point point : queue) {
-            Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
-            if (!(chunk instanceof LightingChunk lightingChunk)) continue;
-
-            Section section = chunk.getSection(point.blockY());
-            responseChunks.add(chunk);
-
-            Light light = switch (type) {
-                case BLOCK -> section.blockLight();
-                case SKY -> section.skyLight();
-            };
-
-            final Palette blockPalette = section.blockPalette();
-            CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
-                final Set<Point> toAdd = switch (queueType) {
-                    case INTERNAL -> light.calculateInternal(blockPalette,
-                            chunk.getChunkX(), point.blockY(), chunk.getChunkZ(),
-                            lightingChunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
-                            lightLookup);
-                    case EXTERNAL -> light.calculateExternal(blockPalette,
-                            Light.getNeighbors(chunk, point.blockY()),
-                            lightLookup, paletteLookup);
-                };
-
-                sections.add(light);
-
-                light.flip();
-                newQueue.addAll(toAdd);
-            }, pool);
-
-            tasks.add(task);
-        }
-
-        tasks.forEach(CompletableFuture::join);
-
-        if (!newQueue.isEmpty()) {
-            var newResponse = flushQueue(instance, newQueue, type, QueueType.EXTERNAL);
-            responseChunks.addAll(newResponse);
-        }
-
-        return responseChunks;
-    }
-
     /**
      * Forces a relight of the specified chunks.
      * <p>
      * This method is used to force a relight of the specified chunks.
      * <p>
-     * This method is thread-safe and can be called from any thread.
+     * This method is thread-safe and can be called from any thread,
+     * relights of distant areas are computed concurrently.
      *
      * @param instance the instance
      * @param chunks   the chunks to relight
      * @return the chunks which have been relighted
      */
     public static List<Chunk> relight(Instance instance, Collection<Chunk> chunks) {
-        Set<Point> sections = new HashSet<>();
-
-        synchronized (instance) {
-            for (Chunk chunk : chunks) {
-                if (!(chunk instanceof LightingChunk lighting)) continue;
-                for (int sectionIndex = chunk.minSection; sectionIndex < chunk.maxSection; sectionIndex++) {
-                    Section section = chunk.getSection(sectionIndex);
-                    section.blockLight().invalidate();
-                    section.skyLight().invalidate();
-                    sections.add(new Vec(chunk.getChunkX(), sectionIndex, chunk.getChunkZ()));
-                }
-                lighting.invalidate();
-            }
-
-            // Expand the sections to include nearby sections
-            var blockSections = new HashSet<Point>();
-            for (Point point : sections) {
-                blockSections.addAll(getNearbyRequired(instance, point, LightType.BLOCK));
-            }
-
-            var skySections = new HashSet<Point>();
-            for (Point point : sections) {
-                skySections.addAll(getNearbyRequired(instance, point, LightType.SKY));
-            }
-
-            relight(instance, blockSections, LightType.BLOCK);
-            relight(instance, skySections, LightType.SKY);
-
-            var chunksToRelight = new HashSet<Chunk>();
-            for (Point point : blockSections) {
-                chunksToRelight.add(instance.getChunk(point.blockX(), point.blockZ()));
-            }
-
-            for (Point point : skySections) {
-                chunksToRelight.add(instance.getChunk(point.blockX(), point.blockZ()));
-            }
-
-            return new ArrayList<>(chunksToRelight);
-        }
-    }
-
-    private static Set<Point> getNearbyRequired(Instance instance, Point point, LightType type) {
-        Set<Point> collected = new HashSet<>();
-        collected.add(point);
-
-        int highestRegionPoint = instance.getCachedDimensionType().minY() - 1;
-
-        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
-            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
-                Chunk chunkCheck = instance.getChunk(x, z);
-                if (chunkCheck == null) continue;
-
-                if (chunkCheck instanceof LightingChunk lighting) {
-                    // Ensure heightmap is calculated before taking values from it
-                    lighting.getOcclusionMap();
-                    highestRegionPoint = Math.max(highestRegionPoint, lighting.highestBlock);
-                }
-            }
-        }
-
-        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
-            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
-                Chunk chunkCheck = instance.getChunk(x, z);
-                if (chunkCheck == null) continue;
-
-                for (int y = point.blockY() - 1; y <= point.blockY() + 1; y++) {
-                    Point sectionPosition = new Vec(x, y, z);
-                    int sectionHeight = instance.getCachedDimensionType().minY() + 16 * y;
-                    if ((sectionHeight + 16) > highestRegionPoint && type == LightType.SKY) continue;
-
-                    if (sectionPosition.blockY() < chunkCheck.getMaxSection() && sectionPosition.blockY() >= chunkCheck.getMinSection()) {
-                        Section s = chunkCheck.getSection(sectionPosition.blockY());
-                        if (type == LightType.BLOCK && !s.blockLight().requiresUpdate()) continue;
-                        if (type == LightType.SKY && !s.skyLight().requiresUpdate()) continue;
-
-                        collected.add(sectionPosition);
-                    }
-                }
-            }
-        }
-
-        return collected;
-    }
-
-    private static Set<Point> collectRequiredNearby(Instance instance, Point point, LightType type) {
-        final Set<Point> found = new HashSet<>();
-        final ArrayDeque<Point> toCheck = new ArrayDeque<>();
-
-        toCheck.add(point);
-        found.add(point);
-
-        while (!toCheck.isEmpty()) {
-            final Point current = toCheck.poll();
-            final Set<Point> nearby = getNearbyRequired(instance, current, type);
-            nearby.forEach(p -> {
-                if (!found.contains(p)) {
-                    found.add(p);
-                    toCheck.add(p);
-                }
-            });
-        }
-
-        return found;
+        return instance.lightEngine().relight(chunks);
     }
 
     static Set<Chunk> relightSection(Instance instance, int chunkX, int sectionY, int chunkZ) {
@@ -540,18 +368,7 @@ public class LightingChunk extends DynamicChunk {
     }
 
     private static Set<Chunk> relightSection(Instance instance, int chunkX, int sectionY, int chunkZ, LightType type) {
-        Chunk c = instance.getChunk(chunkX, chunkZ);
-        if (c == null) return Set.of();
-        if (!(c instanceof LightingChunk)) return Set.of();
-
-        synchronized (instance) {
-            Set<Point> collected = collectRequiredNearby(instance, new Vec(chunkX, sectionY, chunkZ), type);
-            return relight(instance, collected, type);
-        }
-    }
-
-    private static Set<Chunk> relight(Instance instance, Set<Point> queue, LightType type) {
-        return flushQueue(instance, queue, type, QueueType.INTERNAL);
+        return instance.lightEngine().relightSection(chunkX, sectionY, chunkZ, type);
     }
 
     @Override
@@ -1,7 +1,12 @@
 package net.minestom.server.instance;
 
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.collision.Shape;
+import net.minestom.server.collision.ShapeImpl;
+import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -10,11 +15,21 @@ import static net.minestom.server.instance.light.LightCompute.CONTENT_FULLY_LIT;
 import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
 
 public final class Section {
+    /**
+     * Collision occupancy of a block, see {@link #collisionOccupancy(int, int, int)}.
+     */
+    @ApiStatus.Internal
+    public static final byte OCCUPANCY_EMPTY = 0, OCCUPANCY_FULL = 1, OCCUPANCY_PARTIAL = 2;
+
     private final Palette blockPalette;
     private final Palette biomePalette;
     private final Light skyLight;
     private final Light blockLight;
 
+    // Bitmaps of the blocks with an empty or full cube collision shape, by section block index
+    // Built on the first query, null once outdated
+    private long[] emptyBlocks, fullBlocks;
+
     private Section(Palette blockPalette, Palette biomePalette, Light skyLight, Light blockLight) {
         this.blockPalette = blockPalette;
         this.biomePalette = biomePalette;
@@ -41,6 +56,123 @@ public final class Section {
     public void clear() {
         this.blockPalette.fill(0);
         this.biomePalette.fill(0);
+        invalidateOccupancy();
+    }
+
+    /**
+     * Gets whether the collision shape of a block is empty, a full cube, or anything else,
+     * without resolving the {@link Block}.
+     * <p>
+     * Not thread-safe, the owning chunk must be locked.
+     *
+     * @param x the section relative x
+     * @param y the section relative y
+     * @param z the section relative z
+     * @return {@link #OCCUPANCY_EMPTY}, {@link #OCCUPANCY_FULL} or {@link #OCCUPANCY_PARTIAL}
+     */
+    @ApiStatus.Internal
+    public byte collisionOccupancy(int x, int y, int z) {
+        long[] emptyBlocks = this.emptyBlocks, fullBlocks = this.fullBlocks;
+        if (emptyBlocks == null || fullBlocks == null) {
+            emptyBlocks = new long[64];
+            fullBlocks = new long[64];
+            buildOccupancy(emptyBlocks, fullBlocks);
+            this.emptyBlocks = emptyBlocks;
+            this.fullBlocks = fullBlocks;
+        }
+        final int index = occupancyIndex(x, y, z);
+        final long mask = 1L << index;
+        if ((emptyBlocks[index >>> 6] & mask) != 0) return OCCUPANCY_EMPTY;
+        if ((fullBlocks[index >>> 6] & mask) != 0) return OCCUPANCY_FULL;
+        return OCCUPANCY_PARTIAL;
+    }
+
+    /**
+     * Updates the occupancy of a block after a change to the block palette.
+     * <p>
+     * Not thread-safe, the owning chunk must be locked.
+     */
+    @ApiStatus.Internal
+    public void updateOccupancy(int x, int y, int z, int stateId) {
+        final long[] emptyBlocks = this.emptyBlocks, fullBlocks = this.fullBlocks;
+        if (emptyBlocks == null || fullBlocks == null) return; // Built on the next query
+        final int index = occupancyIndex(x, y, z);
+        final int word = index >>> 6;
+        final long mask = 1L << index;
+        final byte occupancy = occupancy(stateId);
+        if (occupancy == OCCUPANCY_EMPTY) emptyBlocks[word] |= mask;
+        else emptyBlocks[word] &= ~mask;
+        if (occupancy == OCCUPANCY_FULL) fullBlocks[word] |= mask;
+        else fullBlocks[word] &= ~mask;
+    }
+
+    /**
+     * Discards the occupancy bitmaps, to be called after the block palette is modified in bulk.
+     */
+    @ApiStatus.Internal
+    public void invalidateOccupancy() {
+        this.emptyBlocks = null;
+        this.fullBlocks = null;
+    }
+
+    private void buildOccupancy(long[] emptyBlocks, long[] fullBlocks) {
+        if (blockPalette.count() == 0) {
+            // Only air
+            Arrays.fill(emptyBlocks, -1L);
+            return;
+        }
+        blockPalette.getAll((x, y, z, value) -> {
+            final int index = occupancyIndex(x, y, z);
+            final byte occupancy = occupancy(value);
+            if (occupancy == OCCUPANCY_EMPTY) emptyBlocks[index >>> 6] |= 1L << index;
+            else if (occupancy == OCCUPANCY_FULL) fullBlocks[index >>> 6] |= 1L << index;
+        });
+    }
+
+    private static int occupancyIndex(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
+    }
+
+    /**
+     * Gets the collision occupancy of a block state.
+     *
+     * @param stateId the block state id
+     * @return {@link #OCCUPANCY_EMPTY}, {@link #OCCUPANCY_FULL} or {@link #OCCUPANCY_PARTIAL}
+     */
+    @ApiStatus.Internal
+    public static byte occupancy(int stateId) {
+        final byte[] states = OccupancyTable.STATES;
+        return stateId >= 0 && stateId < states.length ? states[stateId] : OCCUPANCY_PARTIAL;
+    }
+
+    private static final class OccupancyTable {
+        private static final byte[] STATES;
+
+        static {
+            int maxStateId = 0;
+            for (Block block : Block.values()) {
+                for (Block state : block.possibleStates()) maxStateId = Math.max(maxStateId, state.stateId());
+            }
+            STATES = new byte[maxStateId + 1];
+            Arrays.fill(STATES, OCCUPANCY_PARTIAL);
+            for (Block block : Block.values()) {
+                for (Block state : block.possibleStates()) {
+                    STATES[state.stateId()] = classify(state.registry().collisionShape());
+                }
+            }
+        }
+
+        private static byte classify(Shape shape) {
+            if (shape.relativeEnd().isZero()) return OCCUPANCY_EMPTY;
+            if (shape instanceof ShapeImpl shapeImpl && shapeImpl.collisionBoundingBoxes().size() == 1) {
+                final BoundingBox box = shapeImpl.collisionBoundingBoxes().getFirst();
+                if (box.minX() == 0 && box.minY() == 0 && box.minZ() == 0 &&
+                        box.maxX() == 1 && box.maxY() == 1 && box.maxZ() == 1) {
+                    return OCCUPANCY_FULL;
+                }
+            }
+            return OCCUPANCY_PARTIAL;
+        }
     }
 
     @Override
@@ -37,11 +37,11 @@ public class AnvilLoader implements IChunkLoader {
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
     private final static int PLAINS_ID = BIOME_REGISTRY.getId(Key.key("minecraft:plains"));
 
-    private final ReentrantLock fileCreationLock = new ReentrantLock();
     private final Map<String, RegionFile> alreadyLoaded = new ConcurrentHashMap<>();
     private final Path path;
     private final Path levelPath;
     private final Path regionPath;
+    private final RegionCompression compression;
 
     private static class RegionCache extends ConcurrentHashMap<IntIntImmutablePair, Set<IntIntImmutablePair>> {
     }
@@ -55,10 +55,21 @@ public class AnvilLoader implements IChunkLoader {
     // thread local to avoid contention issues with locks
     private final ThreadLocal<Int2ObjectMap<CompoundBinaryTag>> blockStateId2ObjectCacheTLS = ThreadLocal.withInitial(Int2ObjectArrayMap::new);
 
-    public AnvilLoader(@NotNull Path path) {
+    /**
+     * Creates a loader for the given world folder.
+     *
+     * @param path        the world folder
+     * @param compression the compression used to save chunks, any type can be loaded regardless
+     */
+    public AnvilLoader(@NotNull Path path, @NotNull RegionCompression compression) {
         this.path = path;
         this.levelPath = path.resolve("level.dat");
         this.regionPath = path.resolve("region");
+        this.compression = compression;
+    }
+
+    public AnvilLoader(@NotNull Path path) {
+        this(path, RegionCompression.ZLIB);
     }
 
     public AnvilLoader(@NotNull String path) {
@@ -94,14 +105,15 @@ public class AnvilLoader implements IChunkLoader {
     }
 
     private @Nullable Chunk loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException {
-        final RegionFile mcaFile = getMCAFile(chunkX, chunkZ);
+        final RegionFile mcaFile = getMCAFile(chunkX, chunkZ, false);
         if (mcaFile == null) return null;
         final CompoundBinaryTag chunkData = mcaFile.readChunkData(chunkX, chunkZ);
         if (chunkData == null) return null;
 
         // Load the chunk data (assuming it is fully generated)
         final Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
-        synchronized (chunk) { // todo: boo, synchronized
+        // Not published yet so uncontended, but required by the chunk block accesses
+        synchronized (chunk) {
             final String status = chunkData.getString("status");
 
             // TODO: Should we handle other statuses?
@@ -131,35 +143,35 @@ public class AnvilLoader implements IChunkLoader {
         return chunk;
     }
 
-    private @Nullable RegionFile getMCAFile(int chunkX, int chunkZ) {
+    /**
+     * Gets the region file of a chunk, opening it if needed.
+     * <p>
+     * Different regions are opened concurrently, only threads requesting the same region wait on each other.
+     *
+     * @param create whether the file should be created if missing
+     * @return the region file, null if missing and {@code create} is false or if it failed to be opened
+     */
+    private @Nullable RegionFile getMCAFile(int chunkX, int chunkZ, boolean create) {
         final int regionX = CoordConversion.chunkToRegion(chunkX);
         final int regionZ = CoordConversion.chunkToRegion(chunkZ);
         final String fileName = RegionFile.getFileName(regionX, regionZ);
 
         final RegionFile loadedFile = alreadyLoaded.get(fileName);
-
         if (loadedFile != null) return loadedFile;
 
-        perRegionLoadedChunksLock.lock();
-        try {
-            return alreadyLoaded.computeIfAbsent(fileName, n -> {
-                final Path regionPath = this.regionPath.resolve(n);
+        return alreadyLoaded.computeIfAbsent(fileName, n -> {
+            final Path regionPath = this.regionPath.resolve(n);
+            try {
                 if (!Files.exists(regionPath)) {
-                    return null;
-                }
-
-                try {
-                    Set<IntIntImmutablePair> previousVersion = perRegionLoadedChunks.put(new IntIntImmutablePair(regionX, regionZ), new HashSet<>());
-                    assert previousVersion == null : "The AnvilLoader cache should not already have data for this region.";
-                    return new RegionFile(regionPath);
-                } catch (IOException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                    return null;
+                    if (!create) return null;
+                    Files.createDirectories(regionPath.getParent());
                 }
-            });
-        } finally {
-            perRegionLoadedChunksLock.unlock();
-        }
+                return new RegionFile(regionPath, compression);
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                return null;
+            }
+        });
     }
 
     private void loadSections(@NotNull Chunk chunk, @NotNull CompoundBinaryTag chunkData) {
@@ -219,21 +231,35 @@ public class AnvilLoader implements IChunkLoader {
                 } else if (blockPaletteTag.size() > 1) {
                     final long[] packedStates = blockStatesTag.getLongArray("data");
                     Check.stateCondition(packedStates.length == 0, "Missing packed states data");
-                    int[] blockStateIndices = new int[Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE];
-                    Palettes.unpack(blockStateIndices, packedStates, packedStates.length * 64 / blockStateIndices.length);
-
-                    for (int y = 0; y < Chunk.CHUNK_SECTION_SIZE; y++) {
-                        for (int z = 0; z < Chunk.CHUNK_SECTION_SIZE; z++) {
-                            for (int x = 0; x < Chunk.CHUNK_SECTION_SIZE; x++) {
-                                try {
-                                    final int blockIndex = y * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE + z * Chunk.CHUNK_SECTION_SIZE + x;
-                                    final int paletteIndex = blockStateIndices[blockIndex];
-                                    final Block block = convertedPalette[paletteIndex];
-
-                                    chunk.setBlock(x, y + yOffset, z, block);
-                                } catch (Exception e) {
-                                    MinecraftServer.getExceptionManager().handleException(e);
-                                }
+                    final int[] stateIds = new int[convertedPalette.length];
+                    boolean requiresPlacement = false;
+                    for (int i = 0; i < convertedPalette.length; i++) {
+                        stateIds[i] = convertedPalette[i].stateId();
+                        requiresPlacement |= requiresPlacement(convertedPalette[i]);
+                    }
+                    try {
+                        // Write the packed indices straight into the palette, which usually shares the same layout
+                        section.blockPalette().load(stateIds, packedStates);
+                    } catch (Exception e) {
+                        MinecraftServer.getExceptionManager().handleException(e);
+                        continue;
+                    }
+
+                    if (requiresPlacement) {
+                        // Handlers and block entities have to be registered in the chunk
+                        int[] blockStateIndices = new int[Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE];
+                        Palettes.unpack(blockStateIndices, packedStates,
+                                Palettes.packedBitsPerEntry(Chunk.CHUNK_SECTION_SIZE, stateIds.length, packedStates.length));
+                        for (int blockIndex = 0; blockIndex < blockStateIndices.length; blockIndex++) {
+                            final Block block = convertedPalette[blockStateIndices[blockIndex]];
+                            if (!requiresPlacement(block)) continue;
+                            final int x = blockIndex & 0xF;
+                            final int z = (blockIndex >> 4) & 0xF;
+                            final int y = blockIndex >> 8;
+                            try {
+                                chunk.setBlock(x, y + yOffset, z, block);
+                            } catch (Exception e) {
+                                MinecraftServer.getExceptionManager().handleException(e);
                             }
                         }
                     }
@@ -242,6 +268,10 @@ public class AnvilLoader implements IChunkLoader {
         }
     }
 
+    private static boolean requiresPlacement(@NotNull Block block) {
+        return block.handler() != null || block.hasNbt() || block.registry().isBlockEntity();
+    }
+
     private Block[] loadBlockPalette(@NotNull ListBinaryTag paletteTag) {
         Block[] convertedPalette = new Block[paletteTag.size()];
         for (int i = 0; i < convertedPalette.length; i++) {
@@ -332,32 +362,8 @@ public class AnvilLoader implements IChunkLoader {
         final int chunkZ = chunk.getChunkZ();
 
         // Find the region file or create an empty one if missing
-        RegionFile mcaFile;
-        fileCreationLock.lock();
-        try {
-            mcaFile = getMCAFile(chunkX, chunkZ);
-            if (mcaFile == null) {
-                final int regionX = CoordConversion.chunkToRegion(chunkX);
-                final int regionZ = CoordConversion.chunkToRegion(chunkZ);
-                final String regionFileName = RegionFile.getFileName(regionX, regionZ);
-                try {
-                    Path regionFile = regionPath.resolve(regionFileName);
-                    if (!Files.exists(regionFile)) {
-                        Files.createDirectories(regionFile.getParent());
-                        Files.createFile(regionFile);
-                    }
-
-                    mcaFile = new RegionFile(regionFile);
-                    alreadyLoaded.put(regionFileName, mcaFile);
-                } catch (IOException e) {
-                    LOGGER.error("Failed to create region file for " + chunkX + ", " + chunkZ, e);
-                    MinecraftServer.getExceptionManager().handleException(e);
-                    return;
-                }
-            }
-        } finally {
-            fileCreationLock.unlock();
-        }
+        final RegionFile mcaFile = getMCAFile(chunkX, chunkZ, true);
+        if (mcaFile == null) return;
 
         try {
             final CompoundBinaryTag.Builder chunkData = CompoundBinaryTag.builder();
@@ -0,0 +1,96 @@
+package net.minestom.server.instance.anvil;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression applied to chunks stored in region files.
+ * <p>
+ * Reads always use the compression stored alongside each chunk, so a world may contain chunks of any type.
+ * {@link #LZ4} requires {@code org.lz4:lz4-java} to be on the classpath.
+ *
+ * @see <a href="https://minecraft.wiki/w/Region_file_format#Payload">Chunk payload compression</a>
+ */
+public enum RegionCompression {
+    GZIP(1),
+    ZLIB(2),
+    NONE(3),
+    LZ4(4);
+
+    private static final RegionCompression[] BY_ID = new RegionCompression[5];
+
+    static {
+        for (RegionCompression compression : values()) BY_ID[compression.id] = compression;
+    }
+
+    private final int id;
+
+    RegionCompression(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the compression type stored in the chunk header.
+     *
+     * @return the compression id
+     */
+    public int id() {
+        return id;
+    }
+
+    public static @Nullable RegionCompression fromId(int id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+
+    @NotNull InputStream decompress(@NotNull InputStream input) throws IOException {
+        return switch (this) {
+            case GZIP -> new GZIPInputStream(input);
+            case ZLIB -> new InflaterInputStream(input);
+            case NONE -> input;
+            case LZ4 -> {
+                checkLz4Available();
+                yield Lz4Streams.decompress(input);
+            }
+        };
+    }
+
+    @NotNull OutputStream compress(@NotNull OutputStream output) throws IOException {
+        return switch (this) {
+            case GZIP -> new GZIPOutputStream(output);
+            case ZLIB -> new DeflaterOutputStream(output);
+            case NONE -> output;
+            case LZ4 -> {
+                checkLz4Available();
+                yield Lz4Streams.compress(output);
+            }
+        };
+    }
+
+    // Checked before touching Lz4Streams, verifying it already loads the lz4-java classes
+    private static void checkLz4Available() {
+        try {
+            Class.forName("net.jpountz.lz4.LZ4BlockInputStream", false, RegionCompression.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("LZ4 region compression requires org.lz4:lz4-java on the classpath", e);
+        }
+    }
+
+    // Isolated so that lz4-java classes are only loaded when used
+    private static final class Lz4Streams {
+        static InputStream decompress(InputStream input) {
+            return new net.jpountz.lz4.LZ4BlockInputStream(input);
+        }
+
+        static OutputStream compress(OutputStream output) {
+            return new net.jpountz.lz4.LZ4BlockOutputStream(output);
+        }
+    }
+}
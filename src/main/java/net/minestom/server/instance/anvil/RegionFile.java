@@ -1,7 +1,5 @@
 package net.minestom.server.instance.anvil;
 
-import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
-import it.unimi.dsi.fastutil.booleans.BooleanList;
 import net.kyori.adventure.nbt.BinaryTagIO;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.coordinate.CoordConversion;
@@ -11,14 +9,27 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Implements a thread-safe reader and writer for Minecraft region files.
+ * <p>
+ * Chunk data is accessed with positional reads and writes, so chunks of the same region can be loaded in parallel.
+ * Each chunk is guarded by one of {@link #LOCK_STRIPES} read-write locks, which also protects its sectors from being
+ * reused while read. The 8 KiB location/timestamp header is memory-mapped and updated in place.
  *
  * @see <a href="https://minecraft.wiki/w/Region_file_format">Region file format</a>
  * @see <a href="https://github.com/Minestom/Hephaistos/blob/master/common/src/main/kotlin/org/jglrxavpok/hephaistos/mca/RegionFile.kt">Hephaistos implementation</a>
@@ -29,9 +40,9 @@ final class RegionFile implements AutoCloseable {
     private static final int SECTOR_SIZE = 4096;
     private static final int SECTOR_1MB = 1024 * 1024 / SECTOR_SIZE;
     private static final int HEADER_LENGTH = MAX_ENTRY_COUNT * 2 * 4; // 2 4-byte fields per entry
-    private static final int CHUNK_HEADER_LENGTH = 4 + 1; // Length + Compression type (todo non constant to support custom compression)
-
-    private static final int COMPRESSION_ZLIB = 2;
+    private static final int HEADER_SECTORS = HEADER_LENGTH / SECTOR_SIZE;
+    private static final int CHUNK_HEADER_LENGTH = 4 + 1; // Length + Compression type
+    private static final int LOCK_STRIPES = 32;
 
     private static final BinaryTagIO.Reader TAG_READER = BinaryTagIO.unlimitedReader();
     private static final BinaryTagIO.Writer TAG_WRITER = BinaryTagIO.writer();
@@ -40,50 +51,61 @@ final class RegionFile implements AutoCloseable {
         return "r." + regionX + "." + regionZ + ".mca";
     }
 
-    private final ReentrantLock lock = new ReentrantLock();
-    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final RegionCompression compression;
+
+    private final ReentrantReadWriteLock[] chunkLocks = new ReentrantReadWriteLock[LOCK_STRIPES];
+    private final AtomicIntegerArray locations = new AtomicIntegerArray(MAX_ENTRY_COUNT);
 
-    private final int[] locations = new int[MAX_ENTRY_COUNT];
-    private final int[] timestamps = new int[MAX_ENTRY_COUNT];
-    private final BooleanList freeSectors = new BooleanArrayList(2);
+    // Guards the sector allocation, never held during I/O
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    private final BitSet usedSectors = new BitSet();
+    private int totalSectors;
 
     public RegionFile(@NotNull Path path) throws IOException {
-        this.file = new RandomAccessFile(path.toFile(), "rw");
+        this(path, RegionCompression.ZLIB);
+    }
+
+    public RegionFile(@NotNull Path path, @NotNull RegionCompression compression) throws IOException {
+        this.compression = compression;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        for (int i = 0; i < LOCK_STRIPES; i++) chunkLocks[i] = new ReentrantReadWriteLock();
+        // Mapping beyond the end of the file extends it, new files get an empty header
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_LENGTH);
 
         readHeader();
     }
 
     public boolean hasChunkData(int chunkX, int chunkZ) {
-        lock.lock();
-        try {
-            return locations[getChunkIndex(chunkX, chunkZ)] != 0;
-        } finally {
-            lock.unlock();
-        }
+        return locations.get(getChunkIndex(chunkX, chunkZ)) != 0;
     }
 
     public @Nullable CompoundBinaryTag readChunkData(int chunkX, int chunkZ) throws IOException {
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        final ReentrantReadWriteLock.ReadLock lock = chunkLock(chunkIndex).readLock();
         lock.lock();
         try {
-            if (!hasChunkData(chunkX, chunkZ)) return null;
-
-            int location = locations[getChunkIndex(chunkX, chunkZ)];
-            file.seek((long) (location >> 8) * SECTOR_SIZE); // Move to start of first sector
-            int length = file.readInt();
-            int compressionType = file.readByte();
-            BinaryTagIO.Compression compression = switch (compressionType) {
-                case 1 -> BinaryTagIO.Compression.GZIP;
-                case COMPRESSION_ZLIB -> BinaryTagIO.Compression.ZLIB;
-                case 3 -> BinaryTagIO.Compression.NONE;
-                default -> throw new IOException("Unsupported compression type: " + compressionType);
-            };
+            final int location = locations.get(chunkIndex);
+            if (location == 0) return null;
+
+            final long position = (long) (location >> 8) * SECTOR_SIZE; // Start of first sector
+            ByteBuffer chunkHeader = ByteBuffer.allocate(CHUNK_HEADER_LENGTH);
+            readFully(chunkHeader, position);
+            final int length = chunkHeader.getInt(0);
+            final int compressionType = chunkHeader.get(4);
+            final RegionCompression compression = RegionCompression.fromId(compressionType);
+            if (compression == null) throw new IOException("Unsupported compression type: " + compressionType);
 
             // Read the raw content
+            Check.stateCondition(length <= 0 || length > (location & 0xFF) * SECTOR_SIZE, "Invalid chunk length: " + length);
             byte[] data = new byte[length - 1];
-            file.read(data);
+            readFully(ByteBuffer.wrap(data), position + CHUNK_HEADER_LENGTH);
 
             // Parse it as a compound tag
-            return TAG_READER.read(new ByteArrayInputStream(data), compression);
+            try (InputStream input = compression.decompress(new ByteArrayInputStream(data))) {
+                return TAG_READER.read(input, BinaryTagIO.Compression.NONE);
+            }
         } finally {
             lock.unlock();
         }
@@ -92,40 +114,36 @@ final class RegionFile implements AutoCloseable {
     public void writeChunkData(int chunkX, int chunkZ, @NotNull CompoundBinaryTag data) throws IOException {
         // Write the data (compressed)
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        TAG_WRITER.writeNamed(Map.entry("", data), out, BinaryTagIO.Compression.ZLIB);
+        try (OutputStream output = compression.compress(out)) {
+            TAG_WRITER.writeNamed(Map.entry("", data), output, BinaryTagIO.Compression.NONE);
+        }
         byte[] dataBytes = out.toByteArray();
         int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
 
         int sectorCount = (int) Math.ceil(chunkLength / (double) SECTOR_SIZE);
         Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
 
+        // Padded to the sector size so that the file length stays a multiple of it
+        ByteBuffer buffer = ByteBuffer.allocate(sectorCount * SECTOR_SIZE);
+        buffer.putInt(chunkLength).put((byte) compression.id()).put(dataBytes).clear();
+
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        final ReentrantReadWriteLock.WriteLock lock = chunkLock(chunkIndex).writeLock();
         lock.lock();
         try {
             // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
-            int chunkIndex = getChunkIndex(chunkX, chunkZ);
-            int oldLocation = locations[chunkIndex];
-
-            // Find a new location
-            int firstSector = findFreeSectors(sectorCount);
-            if (firstSector == -1) {
-                firstSector = allocSectors(sectorCount);
-            }
-            int newLocation = (firstSector << 8) | sectorCount;
-
-            // Mark the sectors as used & free the old sectors
-            markLocation(oldLocation, true);
-            markLocation(newLocation, false);
+            final int firstSector = allocSectors(sectorCount);
+            final int newLocation = (firstSector << 8) | sectorCount;
 
             // Write the chunk data
-            file.seek((long) firstSector * SECTOR_SIZE);
-            file.writeInt(chunkLength);
-            file.writeByte(COMPRESSION_ZLIB);
-            file.write(dataBytes);
-
-            // Update the header and write it
-            locations[chunkIndex] = newLocation;
-            timestamps[chunkIndex] = (int) (System.currentTimeMillis() / 1000);
-            writeHeader();
+            writeFully(buffer, (long) firstSector * SECTOR_SIZE);
+
+            // Update the header, readers of this chunk are excluded so the old sectors can be freed
+            final int oldLocation = locations.get(chunkIndex);
+            locations.set(chunkIndex, newLocation);
+            header.putInt(chunkIndex * 4, newLocation);
+            header.putInt(MAX_ENTRY_COUNT * 4 + chunkIndex * 4, (int) (System.currentTimeMillis() / 1000));
+            freeSectors(oldLocation);
         } finally {
             lock.unlock();
         }
@@ -133,85 +151,74 @@ final class RegionFile implements AutoCloseable {
 
     @Override
     public void close() throws IOException {
-        file.close();
+        header.force();
+        channel.close();
     }
 
     private int getChunkIndex(int chunkX, int chunkZ) {
         return (CoordConversion.chunkToRegionLocal(chunkZ) << 5) | CoordConversion.chunkToRegionLocal(chunkX);
     }
 
-    private void readHeader() throws IOException {
-        file.seek(0);
-        if (file.length() < HEADER_LENGTH) {
-            // new file, fill in data
-            file.write(new byte[HEADER_LENGTH]);
-        }
-
-        //todo: addPadding()
-
-        final long totalSectors = ((file.length() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
-        for (int i = 0; i < totalSectors; i++) freeSectors.add(true);
-        freeSectors.set(0, false); // First sector is locations
-        freeSectors.set(1, false); // Second sector is timestamps
+    private ReentrantReadWriteLock chunkLock(int chunkIndex) {
+        return chunkLocks[chunkIndex % LOCK_STRIPES];
+    }
 
-        // Read locations
-        file.seek(0);
-        for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
-            int location = locations[i] = file.readInt();
-            if (location != 0) {
-                markLocation(location, false);
-            }
-        }
+    private void readHeader() throws IOException {
+        this.totalSectors = (int) (((channel.size() - 1) / SECTOR_SIZE) + 1); // Round up, last sector does not need to be full size
+        usedSectors.set(0, HEADER_SECTORS); // Locations and timestamps
 
-        // Read timestamps
         for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
-            timestamps[i] = file.readInt();
+            final int location = header.getInt(i * 4);
+            if (location == 0) continue;
+            final int sectorStart = location >> 8;
+            final int sectorCount = location & 0xFF;
+            Check.stateCondition(sectorStart + sectorCount > totalSectors, "Invalid sector count");
+            usedSectors.set(sectorStart, sectorStart + sectorCount);
+            locations.set(i, location);
         }
     }
 
-    private void writeHeader() throws IOException {
-        file.seek(0);
-        for (int location : locations) {
-            file.writeInt(location);
-        }
-        for (int timestamp : timestamps) {
-            file.writeInt(timestamp);
+    private int allocSectors(int count) {
+        allocationLock.lock();
+        try {
+            // Find the first free range large enough, or grow the file
+            int start = usedSectors.nextClearBit(HEADER_SECTORS);
+            while (start + count <= totalSectors) {
+                final int nextUsed = usedSectors.nextSetBit(start);
+                if (nextUsed == -1 || nextUsed >= start + count) break;
+                start = usedSectors.nextClearBit(nextUsed);
+            }
+            usedSectors.set(start, start + count);
+            this.totalSectors = Math.max(totalSectors, start + count);
+            return start;
+        } finally {
+            allocationLock.unlock();
         }
     }
 
-    private int findFreeSectors(int length) {
-        for (int start = 0; start < freeSectors.size() - length; start++) {
-            boolean found = true;
-            for (int i = 0; i < length; i++) {
-                if (!freeSectors.getBoolean(start++)) {
-                    found = false;
-                    break;
-                }
-            }
-            if (found) return start - length;
+    private void freeSectors(int location) {
+        if (location == 0) return;
+        final int sectorStart = location >> 8;
+        final int sectorCount = location & 0xFF;
+        allocationLock.lock();
+        try {
+            usedSectors.clear(sectorStart, sectorStart + sectorCount);
+        } finally {
+            allocationLock.unlock();
         }
-        return -1;
     }
 
-    private int allocSectors(int count) throws IOException {
-        var eof = file.length();
-        file.seek(eof);
-
-        byte[] emptySector = new byte[SECTOR_SIZE];
-        for (int i = 0; i < count; i++) {
-            freeSectors.add(true);
-            file.write(emptySector);
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read == -1) throw new EOFException("Unexpected end of region file");
+            position += read;
         }
-
-        return (int) (eof / SECTOR_SIZE);
     }
 
-    private void markLocation(int location, boolean free) {
-        int sectorCount = location & 0xFF;
-        int sectorStart = location >> 8;
-        Check.stateCondition(sectorStart + sectorCount > freeSectors.size(), "Invalid sector count");
-        for (int i = sectorStart; i < sectorStart + sectorCount; i++) {
-            freeSectors.set(i, free);
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
         }
     }
 }
@@ -1,12 +1,14 @@
 package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.Shape;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.utils.Direction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -16,6 +18,11 @@ public final class LightCompute {
     static final int LIGHT_LENGTH = 16 * 16 * 16 / 2;
     static final int SECTION_SIZE = 16;
 
+    // Sky light falling through open columns enqueues most of the section
+    private static final int VECTOR_QUEUE_THRESHOLD = 1024;
+    // Compiled separately from the other sources as it requires the incubating module, null if unavailable
+    static final @Nullable Kernel VECTOR = ServerFlag.LIGHT_VECTORIZATION ? loadVectorKernel() : null;
+
     public static final byte[] EMPTY_CONTENT = new byte[LIGHT_LENGTH];
     public static final byte[] CONTENT_FULLY_LIT = new byte[LIGHT_LENGTH];
 
@@ -36,6 +43,17 @@ public final class LightCompute {
         if (lightPre.isEmpty()) {
             return EMPTY_CONTENT;
         }
+        final Kernel vector = VECTOR;
+        if (vector != null && lightPre.size() >= VECTOR_QUEUE_THRESHOLD) {
+            return vector.compute(blockPalette, lightPre);
+        }
+        return computeScalar(blockPalette, lightPre);
+    }
+
+    static byte @NotNull [] computeScalar(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
+        if (lightPre.isEmpty()) {
+            return EMPTY_CONTENT;
+        }
 
         final byte[] lightArray = new byte[LIGHT_LENGTH];
 
@@ -123,6 +141,12 @@ public final class LightCompute {
         if (content2 == null) return content1;
 
         if (Arrays.equals(content1, EMPTY_CONTENT) && Arrays.equals(content2, EMPTY_CONTENT)) return EMPTY_CONTENT;
+        final Kernel vector = VECTOR;
+        if (vector != null) return vector.bake(content1, content2);
+        return bakeScalar(content1, content2);
+    }
+
+    static byte[] bakeScalar(byte[] content1, byte[] content2) {
 
         byte[] lightMax = new byte[LIGHT_LENGTH];
         for (int i = 0; i < content1.length; i++) {
@@ -175,4 +199,23 @@ public final class LightCompute {
         }
         return true;
     }
+
+    private static @Nullable Kernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            return (Kernel) Class.forName("net.minestom.server.instance.light.LightComputeVector")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Alternative implementation of the light operations, same results as the scalar ones.
+     */
+    interface Kernel {
+        byte @NotNull [] compute(@NotNull Palette blockPalette, @NotNull ShortArrayFIFOQueue lightPre);
+
+        byte @NotNull [] bake(byte @NotNull [] content1, byte @NotNull [] content2);
+    }
 }
@@ -60,6 +60,23 @@ final class AdaptivePalette implements Palette, Cloneable {
         this.palette = newPalette;
     }
 
+    @Override
+    public void load(int @NotNull [] palette, long @NotNull [] values) {
+        if (palette.length == 1) {
+            fill(palette[0]);
+            return;
+        }
+        final int bitsPerEntry = Palettes.packedBitsPerEntry(dimension, palette.length, values.length);
+        if (bitsPerEntry < defaultBitsPerEntry || bitsPerEntry > maxBitsPerEntry) {
+            // Different layout, remap each entry
+            Palette.super.load(palette, values);
+            return;
+        }
+        // Same layout as the indirect palette, use the indices as-is
+        final int count = Palettes.count(dimension, bitsPerEntry, values, palette);
+        this.palette = new PaletteIndirect(dimension, maxBitsPerEntry, (byte) bitsPerEntry, count, palette, values);
+    }
+
     @Override
     public void replace(int x, int y, int z, @NotNull IntUnaryOperator operator) {
         if (x < 0 || y < 0 || z < 0) {
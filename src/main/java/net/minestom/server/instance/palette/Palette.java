@@ -37,6 +37,26 @@ public interface Palette {
 
     void setAll(@NotNull EntrySupplier supplier);
 
+    /**
+     * Replaces all the entries with packed palette indices, as stored in the vanilla chunk format.
+     * <p>
+     * Indices do not span across longs, their size is deduced from the palette size and the array length.
+     * The array may be kept by the palette and must not be modified afterward.
+     *
+     * @param palette the value of each palette index
+     * @param values  the packed palette indices, in the {@link Palettes#sectionIndex(int, int, int, int)} order
+     */
+    default void load(int @NotNull [] palette, long @NotNull [] values) {
+        if (palette.length == 1) {
+            fill(palette[0]);
+            return;
+        }
+        final int dimension = dimension();
+        final int[] indices = new int[maxSize()];
+        Palettes.unpack(indices, values, Palettes.packedBitsPerEntry(dimension, palette.length, values.length));
+        setAll((x, y, z) -> palette[indices[Palettes.sectionIndex(dimension, x, y, z)]]);
+    }
+
     void replace(int x, int y, int z, @NotNull IntUnaryOperator operator);
 
     void replaceAll(@NotNull EntryFunction function);
@@ -88,6 +88,38 @@ public final class Palettes {
         return count;
     }
 
+    /**
+     * Counts the packed palette indices which refer to a non-zero value.
+     *
+     * @throws IllegalArgumentException if an index is outside the palette
+     */
+    public static int count(int dimension, int bitsPerEntry, long[] values, int[] palette) {
+        final int size = dimension * dimension * dimension;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long mask = (1L << bitsPerEntry) - 1L;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            final int paletteIndex = (int) ((values[i / valuesPerLong] >>> (i % valuesPerLong) * bitsPerEntry) & mask);
+            if (paletteIndex >= palette.length)
+                throw new IllegalArgumentException("Invalid palette index " + paletteIndex + " for a palette of size " + palette.length);
+            if (palette[paletteIndex] != 0) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the smallest number of bits per entry able to index the palette and producing an array of the given length.
+     *
+     * @throws IllegalArgumentException if there is none
+     */
+    public static int packedBitsPerEntry(int dimension, int paletteSize, int arrayLength) {
+        int bitsPerEntry = Math.max(1, MathUtils.bitsToRepresent(paletteSize - 1));
+        while (bitsPerEntry < 32 && arrayLength(dimension, bitsPerEntry) < arrayLength) bitsPerEntry++;
+        if (arrayLength(dimension, bitsPerEntry) != arrayLength)
+            throw new IllegalArgumentException("Invalid packed array length " + arrayLength + " for a palette of size " + paletteSize);
+        return bitsPerEntry;
+    }
+
     public static int sectionIndex(int dimension, int x, int y, int z) {
         final int dimensionMask = dimension - 1;
         final int dimensionBitCount = MathUtils.bitsToRepresent(dimensionMask);
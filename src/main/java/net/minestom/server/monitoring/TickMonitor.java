@@ -4,10 +4,17 @@ public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final long viewablePacketBytes;
+    private final long viewerAdditions;
+    private final long viewerRemovals;
 
-    public TickMonitor(double tickTime, double acquisitionTime) {
+    public TickMonitor(double tickTime, double acquisitionTime, long viewablePacketBytes,
+                       long viewerAdditions, long viewerRemovals) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.viewablePacketBytes = viewablePacketBytes;
+        this.viewerAdditions = viewerAdditions;
+        this.viewerRemovals = viewerRemovals;
     }
 
     public double getTickTime() {
@@ -17,4 +24,31 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the number of bytes aggregated into viewable packet buffers during the tick.
+     *
+     * @return the aggregated bytes
+     */
+    public long getViewablePacketBytes() {
+        return viewablePacketBytes;
+    }
+
+    /**
+     * Gets the number of players that started viewing an entity automatically during the tick.
+     *
+     * @return the viewer additions
+     */
+    public long getViewerAdditions() {
+        return viewerAdditions;
+    }
+
+    /**
+     * Gets the number of players that stopped viewing an entity automatically during the tick.
+     *
+     * @return the viewer removals
+     */
+    public long getViewerRemovals() {
+        return viewerRemovals;
+    }
 }
@@ -13,12 +13,14 @@ import net.minestom.server.utils.Direction;
 import net.minestom.server.utils.Unit;
 import net.minestom.server.utils.crypto.KeyUtils;
 import net.minestom.server.utils.nbt.BinaryTagSerializer;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
 import javax.crypto.Cipher;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.security.PublicKey;
@@ -294,4 +296,17 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
     static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         return NetworkBufferImpl.equals(buffer1, buffer2);
     }
+
+    /**
+     * Points a direct {@link ByteBuffer} to a region of the buffer without copying, used for gathering writes.
+     * <p>
+     * The view does not keep the buffer alive and becomes invalid once the buffer is resized or freed.
+     *
+     * @param view the view to reuse, or null to allocate a new one
+     * @return the view positioned at {@code index} with {@code length} remaining bytes
+     */
+    @ApiStatus.Internal
+    static @NotNull ByteBuffer nioView(@NotNull NetworkBuffer buffer, long index, long length, @Nullable ByteBuffer view) {
+        return NetworkBufferImpl.nioView(buffer, index, length, view);
+    }
 }
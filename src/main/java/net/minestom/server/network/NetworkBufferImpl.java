@@ -488,6 +488,17 @@ final class NetworkBufferImpl implements NetworkBuffer {
         UNSAFE.copyMemory(srcAddress, dstAddress, length);
     }
 
+    static ByteBuffer nioView(NetworkBuffer buffer, long index, long length, @Nullable ByteBuffer view) {
+        var impl = impl(buffer);
+        impl.assertDummy();
+        Objects.checkFromIndexSize(index, length, impl.capacity);
+        if (view == null) view = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+        updateAddress(view, impl.address);
+        updateCapacity(view, (int) impl.capacity);
+        view.limit((int) (index + length)).position((int) index);
+        return view;
+    }
+
     public static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         var impl1 = impl(buffer1);
         var impl2 = impl(buffer2);
@@ -7,6 +7,7 @@ import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Queue;
 import java.util.function.BiPredicate;
@@ -32,6 +33,25 @@ public final class PacketWriting {
         writeFramedPacket(buffer, PacketVanilla.SERVER_PACKET_PARSER, state, packet, compressionThreshold);
     }
 
+    /**
+     * Writes a framed packet, using {@code compressionBuffer} to hold the uncompressed content.
+     * <p>
+     * Avoids borrowing a pooled buffer for each compressed packet when writing many of them.
+     */
+    public static void writeFramedPacket(@NotNull NetworkBuffer buffer,
+                                         @NotNull ConnectionState state,
+                                         @NotNull ServerPacket packet,
+                                         int compressionThreshold,
+                                         @NotNull NetworkBuffer compressionBuffer) throws IndexOutOfBoundsException {
+        final PacketRegistry<ServerPacket> registry = PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state);
+        final PacketRegistry.PacketInfo<ServerPacket> packetInfo = registry.packetInfo(packet);
+        if (compressionThreshold <= 0) {
+            writeUncompressedFormat(buffer, packetInfo.serializer(), packetInfo.id(), packet);
+        } else {
+            writeCompressedFormat(buffer, packetInfo.serializer(), packetInfo.id(), packet, compressionThreshold, compressionBuffer);
+        }
+    }
+
     public static <T> void writeFramedPacket(@NotNull NetworkBuffer buffer,
                                              @NotNull PacketParser<T> parser,
                                              @NotNull ConnectionState state,
@@ -71,7 +91,7 @@ public final class PacketWriting {
                                              int id, @NotNull T packet,
                                              int compressionThreshold) throws IndexOutOfBoundsException {
         if (compressionThreshold <= 0) writeUncompressedFormat(buffer, type, id, packet);
-        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold);
+        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold, null);
     }
 
     private static <T> void writeUncompressedFormat(NetworkBuffer buffer,
@@ -88,7 +108,8 @@ public final class PacketWriting {
     private static <T> void writeCompressedFormat(NetworkBuffer buffer,
                                                   NetworkBuffer.Type<T> type,
                                                   int id, T packet,
-                                                  int compressionThreshold) throws IndexOutOfBoundsException {
+                                                  int compressionThreshold,
+                                                  @Nullable NetworkBuffer compressionBuffer) throws IndexOutOfBoundsException {
         // Compressed format https://minecraft.wiki/w/Minecraft_Wiki:Projects/wiki.vg_merge/Protocol#With_compression
         final long compressedIndex = buffer.advanceWrite(3);
         final long uncompressedIndex = buffer.advanceWrite(3);
@@ -100,14 +121,14 @@ public final class PacketWriting {
         if (compressed) {
             // Write the compressed content into the pooled buffer
             // and compress it into the current buffer
-            NetworkBuffer input = PacketVanilla.PACKET_POOL.get();
+            NetworkBuffer input = compressionBuffer != null ? compressionBuffer : PacketVanilla.PACKET_POOL.get();
             try {
                 if (input.capacity() < packetSize) input.resize(packetSize);
                 NetworkBuffer.copy(buffer, contentStart, input, 0, packetSize);
                 buffer.writeIndex(contentStart);
                 input.compress(0, packetSize, buffer);
             } finally {
-                PacketVanilla.PACKET_POOL.add(input);
+                if (compressionBuffer == null) PacketVanilla.PACKET_POOL.add(input);
             }
         }
         // Packet header (Packet + Data Length)
@@ -191,7 +212,6 @@ public final class PacketWriting {
             } catch (IndexOutOfBoundsException e) {
                 success = false;
             }
-            assert !success || buffer.writeIndex() > 0;
             // Poll the packet only if fully written
             if (success) {
                 // Packet fully written
@@ -0,0 +1,131 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketVanilla;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+/**
+ * Batches references to read-only packet buffers so they can be written with a single gathering write,
+ * without copying them into the connection buffer.
+ * <p>
+ * Packets that have to be serialized (and small shared ones) are written contiguously in a pooled buffer
+ * which is itself referenced between the shared regions.
+ * <p>
+ * Not thread-safe, owned by the writer of a single connection.
+ */
+final class GatheringWriteBuffer {
+    // Shared regions smaller than this are cheaper to copy than to reference
+    static final int COPY_THRESHOLD = 512;
+    private static final int MAX_VIEWS = 64;
+
+    private final ByteBuffer[] views = new ByteBuffer[MAX_VIEWS];
+    // Keep the referenced buffers reachable until written, views do not
+    private final Object[] owners = new Object[MAX_VIEWS];
+    private int count, offset;
+
+    private NetworkBuffer buffer;
+    private long runStart;
+
+    private long copiedBytes, referencedBytes;
+
+    /**
+     * Gets the buffer where packets are serialized, borrowed from {@link PacketVanilla#PACKET_POOL}.
+     */
+    @NotNull NetworkBuffer buffer() {
+        NetworkBuffer buffer = this.buffer;
+        if (buffer == null) {
+            this.buffer = buffer = PacketVanilla.PACKET_POOL.get();
+            this.runStart = buffer.writeIndex();
+        }
+        return buffer;
+    }
+
+    /**
+     * Adds a read-only region to the batch, either by reference or by copying it when small.
+     *
+     * @return false if the batch is full, the region has not been added
+     */
+    boolean addShared(@NotNull NetworkBuffer body, long index, long length) {
+        final NetworkBuffer buffer = buffer();
+        if (length < COPY_THRESHOLD) {
+            if (buffer.writableBytes() < length) return false;
+            NetworkBuffer.copy(body, index, buffer, buffer.writeIndex(), length);
+            buffer.advanceWrite(length);
+            this.copiedBytes += length;
+            return true;
+        }
+        // Keep slots for the pending serialized run, this region, and the run following it
+        if (count + 3 > MAX_VIEWS) return false;
+        closeRun();
+        addView(body, index, length);
+        this.referencedBytes += length;
+        return true;
+    }
+
+    boolean isEmpty() {
+        return count == offset && (buffer == null || buffer.writeIndex() == runStart);
+    }
+
+    /**
+     * Writes the batch to the channel.
+     *
+     * @return true if the batch has been fully written, false if some data is left for the next call
+     */
+    boolean write(@NotNull GatheringByteChannel channel) throws IOException {
+        closeRun();
+        if (offset < count) {
+            final long written = channel.write(views, offset, count - offset);
+            if (written == -1) throw new EOFException("Disconnected");
+            while (offset < count && !views[offset].hasRemaining()) offset++;
+            if (offset < count) return false;
+        }
+        reset();
+        return true;
+    }
+
+    /**
+     * Bytes of shared regions copied into the pooled buffer because they were below {@link #COPY_THRESHOLD}.
+     */
+    long copiedBytes() {
+        return copiedBytes;
+    }
+
+    /**
+     * Bytes written by reference, without any copy.
+     */
+    long referencedBytes() {
+        return referencedBytes;
+    }
+
+    private void closeRun() {
+        final NetworkBuffer buffer = this.buffer;
+        if (buffer == null) return;
+        final long end = buffer.writeIndex();
+        if (end == runStart) return;
+        addView(buffer, runStart, end - runStart);
+        this.runStart = end;
+    }
+
+    private void addView(NetworkBuffer owner, long index, long length) {
+        final int slot = count++;
+        views[slot] = NetworkBuffer.nioView(owner, index, length, views[slot]);
+        owners[slot] = owner;
+    }
+
+    private void reset() {
+        Arrays.fill(owners, 0, count, null);
+        this.count = 0;
+        this.offset = 0;
+        final NetworkBuffer buffer = this.buffer;
+        if (buffer != null) {
+            this.buffer = null;
+            PacketVanilla.PACKET_POOL.add(buffer);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionStatusPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket.FLAG_HORIZONTAL_COLLISION;
+import static net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket.FLAG_ON_GROUND;
+
+/**
+ * Merges consecutive movement packets received in a single read into one.
+ * <p>
+ * The merged packet contains the latest position and the latest rotation, horizontal collision is kept if any of the
+ * packets had it. Movements with a different on-ground state are not merged, so that landing and jumping are seen
+ * at the position they happened. Any other packet stops the merging to keep the order of interactions and teleport
+ * confirmations with movements.
+ */
+final class MovementCoalescing {
+    private MovementCoalescing() {
+    }
+
+    static boolean isMovement(@NotNull ClientPacket packet) {
+        return packet instanceof ClientPlayerPositionPacket || packet instanceof ClientPlayerPositionAndRotationPacket ||
+                packet instanceof ClientPlayerRotationPacket || packet instanceof ClientPlayerPositionStatusPacket;
+    }
+
+    /**
+     * Gets whether a movement can be merged into the previous one, both must have the same on-ground state.
+     */
+    static boolean canMerge(@NotNull ClientPacket previous, @NotNull ClientPacket next) {
+        return ((flags(previous) ^ flags(next)) & FLAG_ON_GROUND) == 0;
+    }
+
+    static @NotNull ClientPacket merge(@NotNull ClientPacket previous, @NotNull ClientPacket next) {
+        final Point nextPosition = position(next);
+        final Point position = nextPosition != null ? nextPosition : position(previous);
+        final Pos nextView = view(next);
+        final Pos view = nextView != null ? nextView : view(previous);
+        final byte flags = (byte) ((flags(next) & FLAG_ON_GROUND) |
+                ((flags(previous) | flags(next)) & FLAG_HORIZONTAL_COLLISION));
+        if (position != null && view != null) {
+            return new ClientPlayerPositionAndRotationPacket(new Pos(position, view.yaw(), view.pitch()), flags);
+        } else if (position != null) {
+            return new ClientPlayerPositionPacket(position, flags);
+        } else if (view != null) {
+            return new ClientPlayerRotationPacket(view.yaw(), view.pitch(), flags);
+        }
+        return new ClientPlayerPositionStatusPacket(flags);
+    }
+
+    private static @Nullable Point position(ClientPacket packet) {
+        return switch (packet) {
+            case ClientPlayerPositionPacket positionPacket -> positionPacket.position();
+            case ClientPlayerPositionAndRotationPacket positionAndRotationPacket ->
+                    positionAndRotationPacket.position();
+            default -> null;
+        };
+    }
+
+    private static @Nullable Pos view(ClientPacket packet) {
+        return switch (packet) {
+            case ClientPlayerRotationPacket rotationPacket -> Pos.ZERO.withView(rotationPacket.yaw(), rotationPacket.pitch());
+            case ClientPlayerPositionAndRotationPacket positionAndRotationPacket ->
+                    positionAndRotationPacket.position();
+            default -> null;
+        };
+    }
+
+    private static byte flags(ClientPacket packet) {
+        return switch (packet) {
+            case ClientPlayerPositionPacket positionPacket -> positionPacket.flags();
+            case ClientPlayerPositionAndRotationPacket positionAndRotationPacket -> positionAndRotationPacket.flags();
+            case ClientPlayerRotationPacket rotationPacket -> rotationPacket.flags();
+            case ClientPlayerPositionStatusPacket statusPacket -> statusPacket.flags();
+            default -> 0;
+        };
+    }
+}
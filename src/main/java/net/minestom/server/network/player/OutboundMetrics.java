@@ -0,0 +1,39 @@
+package net.minestom.server.network.player;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the time spent by the writer threads of all connections in each {@link OutboundStage}.
+ * <p>
+ * Writing packets into the flushed buffer, compression included, is reported as {@link #FRAMING}.
+ */
+@ApiStatus.Internal
+public final class OutboundMetrics {
+    public static final String FRAMING = "framing";
+
+    private static final Map<String, LongAdder> STAGE_NANOS = new ConcurrentHashMap<>();
+
+    private OutboundMetrics() {
+    }
+
+    static void record(@NotNull String stage, long nanos) {
+        STAGE_NANOS.computeIfAbsent(stage, s -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * Retrieves and resets the time spent in each stage.
+     *
+     * @return the time in nanoseconds spent in each stage, by name
+     */
+    public static @NotNull Map<String, Long> resetStageTimes() {
+        Map<String, Long> times = new HashMap<>();
+        STAGE_NANOS.forEach((stage, nanos) -> times.put(stage, nanos.sumThenReset()));
+        return times;
+    }
+}
@@ -0,0 +1,34 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Processes in place the framed packets of a connection, once per flush before they are written to the channel.
+ * <p>
+ * Stages are added with {@link PlayerSocketConnection#addOutboundStage(OutboundStage)} and only apply to the packets
+ * written afterward. Encryption is one of them, a connection without stage (e.g. behind a proxy, over a unix socket)
+ * writes the framed packets as is.
+ * <p>
+ * The time spent in each stage is available from {@link OutboundMetrics#resetStageTimes()}.
+ */
+@ApiStatus.Experimental
+public interface OutboundStage {
+
+    /**
+     * Gets the name of the stage, used for metrics.
+     *
+     * @return the stage name
+     */
+    @NotNull String name();
+
+    /**
+     * Processes a contiguous region of framed packets, always called with increasing indexes for a given connection.
+     *
+     * @param buffer the buffer containing the packets
+     * @param index  the index of the first byte to process
+     * @param length the number of bytes to process
+     */
+    void process(@NotNull NetworkBuffer buffer, long index, long length);
+}
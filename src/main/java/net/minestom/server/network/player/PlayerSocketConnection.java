@@ -41,10 +41,14 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.zip.DataFormatException;
 
 /**
@@ -54,6 +58,10 @@ import java.util.zip.DataFormatException;
  */
 @ApiStatus.Internal
 public class PlayerSocketConnection extends PlayerConnection {
+    // Upper bound for a writer waiting on a flush signal, in case the tick loop is not running
+    private static final long FLUSH_WAIT_TIMEOUT = 1_000_000_000L / ServerFlag.SERVER_TICKS_PER_SECOND;
+    private static final OutboundStage[] NO_STAGES = new OutboundStage[0];
+
     private static final Set<Class<? extends ClientPacket>> IMMEDIATE_PROCESS_PACKETS = Set.of(
             ClientHandshakePacket.class, // First received packet
             ClientCookieResponsePacket.class,
@@ -91,6 +99,17 @@ public class PlayerSocketConnection extends PlayerConnection {
     // Used instead of a simple boolean so we can get proper timing for serialization
     private volatile long compressionStart = Long.MAX_VALUE;
 
+    // Writer thread parked in #flushSync waiting for packets, and whether a flush has been requested since it last woke up
+    private volatile Thread writeThread;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicReference<OutboundStage[]> outboundStages = new AtomicReference<>(NO_STAGES);
+    // Stages applied to the packets written since `segmentStart` in the flushed buffer
+    private OutboundStage[] segmentStages = NO_STAGES;
+    private long segmentStart;
+    // Holds the uncompressed content of packets during a flush
+    private NetworkBuffer compressionBuffer;
+
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
     public PlayerSocketConnection(@NotNull SocketChannel channel, SocketAddress remoteAddress) {
@@ -134,6 +153,8 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
         switch (result) {
             case PacketReading.Result.Success<ClientPacket> success -> {
+                // Consecutive movements of this read, queued as a single packet
+                ClientPacket pendingMovement = null;
                 for (PacketReading.ParsedPacket<ClientPacket> parsedPacket : success.packets()) {
                     final ClientPacket packet = parsedPacket.packet();
 
@@ -150,16 +171,28 @@ public class PlayerSocketConnection extends PlayerConnection {
                         if (processImmediately) {
                             // Interpret the packet using the connection state we received it.
                             MinecraftServer.getPacketListenerManager().processClientPacket(packet, this, currState);
+                        } else if (ServerFlag.PLAYER_MOVEMENT_COALESCING && MovementCoalescing.isMovement(packet)) {
+                            if (pendingMovement == null) {
+                                pendingMovement = packet;
+                            } else if (MovementCoalescing.canMerge(pendingMovement, packet)) {
+                                pendingMovement = MovementCoalescing.merge(pendingMovement, packet);
+                            } else {
+                                // On-ground changed, keep the movement where it happened
+                                queuePacket(pendingMovement);
+                                pendingMovement = packet;
+                            }
                         } else {
-                            // To be processed during the next player tick
-                            final Player player = getPlayer();
-                            assert player != null;
-                            player.addPacketToQueue(packet);
+                            if (pendingMovement != null) {
+                                queuePacket(pendingMovement);
+                                pendingMovement = null;
+                            }
+                            queuePacket(packet);
                         }
                     } catch (Exception e) {
                         MinecraftServer.getExceptionManager().handleException(e);
                     }
                 }
+                if (pendingMovement != null) queuePacket(pendingMovement);
                 // Compact in case of incomplete read
                 readBuffer.compact();
             }
@@ -176,6 +209,13 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    private void queuePacket(ClientPacket packet) {
+        // To be processed during the next player tick
+        final Player player = getPlayer();
+        assert player != null;
+        player.addPacketToQueue(packet);
+    }
+
     /**
      * Sets the encryption key and add the codecs to the pipeline.
      *
@@ -185,6 +225,22 @@ public class PlayerSocketConnection extends PlayerConnection {
     public void setEncryptionKey(@NotNull SecretKey secretKey) {
         Check.stateCondition(encryptionContext != null, "Encryption is already enabled!");
         this.encryptionContext = new EncryptionContext(MojangCrypt.getCipher(1, secretKey), MojangCrypt.getCipher(2, secretKey));
+        addOutboundStage(new EncryptionStage(encryptionContext.encrypt()));
+    }
+
+    /**
+     * Adds a stage processing the packets written after this call, once per flush.
+     * <p>
+     * Stages are applied in the order they were added.
+     *
+     * @param stage the stage to add
+     */
+    public void addOutboundStage(@NotNull OutboundStage stage) {
+        this.outboundStages.updateAndGet(stages -> {
+            OutboundStage[] result = Arrays.copyOf(stages, stages.length + 1);
+            result[stages.length] = stage;
+            return result;
+        });
     }
 
     /**
@@ -203,11 +259,38 @@ public class PlayerSocketConnection extends PlayerConnection {
     @Override
     public void sendPacket(@NotNull SendablePacket packet) {
         this.packetQueue.relaxedOffer(packet);
+        if (!coalesceWrites()) signalFlush();
     }
 
     @Override
     public void sendPackets(@NotNull Collection<SendablePacket> packets) {
         for (SendablePacket packet : packets) this.packetQueue.relaxedOffer(packet);
+        if (!coalesceWrites()) signalFlush();
+    }
+
+    /**
+     * Wakes up the writer thread so that queued packets get written to the socket.
+     * <p>
+     * Multiple signals received before the writer wakes up are coalesced into a single flush.
+     * Called by the server at the end of every tick, and on every packet for connections not in the play state.
+     */
+    @ApiStatus.Internal
+    public void signalFlush() {
+        if (flushRequested.getAndSet(true)) return; // Already signaled
+        final Thread thread = this.writeThread;
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    private boolean coalesceWrites() {
+        // Packets sent outside the play state (login, configuration) are latency sensitive and rare
+        return ServerFlag.SOCKET_WRITE_COALESCING && getConnectionState() == ConnectionState.PLAY;
+    }
+
+    @Override
+    public void disconnect() {
+        super.disconnect();
+        // Let the writer flush remaining packets and close the channel
+        signalFlush();
     }
 
     @Override
@@ -314,20 +397,8 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.nonce = nonce;
     }
 
-    private boolean writeSendable(NetworkBuffer buffer, SendablePacket sendable, boolean compressed) {
-        final long start = buffer.writeIndex();
-        final boolean result = writePacketSync(buffer, sendable, compressed);
-        if (!result) return false;
-        // Encrypt data
-        final long length = buffer.writeIndex() - start;
-        final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null && length > 0) { // Encryption support
-            buffer.cipher(encryptionContext.encrypt(), start, length);
-        }
-        return true;
-    }
-
-    private boolean writePacketSync(NetworkBuffer buffer, SendablePacket packet, boolean compressed) {
+    private boolean writePacketSync(NetworkBuffer buffer, SendablePacket packet, boolean compressed,
+                                    @Nullable GatheringWriteBuffer gathering) {
         final Player player = getPlayer();
         final ConnectionState state = getConnectionState();
         if (player != null) {
@@ -352,31 +423,31 @@ public class PlayerSocketConnection extends PlayerConnection {
         try {
             return switch (packet) {
                 case ServerPacket serverPacket -> {
-                    PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold);
+                    writeFramedPacket(buffer, state, serverPacket, compressionThreshold);
                     yield true;
                 }
                 case FramedPacket framedPacket -> {
                     final NetworkBuffer body = framedPacket.body();
-                    yield writeBuffer(buffer, body, 0, body.capacity());
+                    yield writeBuffer(buffer, body, 0, body.capacity(), gathering);
                 }
                 case CachedPacket cachedPacket -> {
                     final NetworkBuffer body = cachedPacket.body(state);
                     if (body != null) {
-                        yield writeBuffer(buffer, body, 0, body.capacity());
+                        yield writeBuffer(buffer, body, 0, body.capacity(), gathering);
                     } else {
-                        PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
+                        writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
                         yield true;
                     }
                 }
                 case LazyPacket lazyPacket -> {
-                    PacketWriting.writeFramedPacket(buffer, state, lazyPacket.packet(), compressionThreshold);
+                    writeFramedPacket(buffer, state, lazyPacket.packet(), compressionThreshold);
                     yield true;
                 }
                 case BufferedPacket bufferedPacket -> {
                     final NetworkBuffer rawBuffer = bufferedPacket.buffer();
                     final long index = bufferedPacket.index();
                     final long length = bufferedPacket.length();
-                    yield writeBuffer(buffer, rawBuffer, index, length);
+                    yield writeBuffer(buffer, rawBuffer, index, length, gathering);
                 }
             };
         } catch (IndexOutOfBoundsException exception) {
@@ -385,7 +456,20 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
-    private boolean writeBuffer(NetworkBuffer buffer, NetworkBuffer body, long index, long length) {
+    private void writeFramedPacket(NetworkBuffer buffer, ConnectionState state, ServerPacket packet,
+                                   int compressionThreshold) {
+        final NetworkBuffer compressionBuffer = this.compressionBuffer;
+        if (compressionBuffer != null) {
+            PacketWriting.writeFramedPacket(buffer, state, packet, compressionThreshold, compressionBuffer);
+        } else {
+            PacketWriting.writeFramedPacket(buffer, state, packet, compressionThreshold);
+        }
+    }
+
+    private boolean writeBuffer(NetworkBuffer buffer, NetworkBuffer body, long index, long length,
+                                @Nullable GatheringWriteBuffer gathering) {
+        // Shared buffers are read-only, reference them instead of copying
+        if (gathering != null) return gathering.addShared(body, index, length);
         if (buffer.writableBytes() < length) {
             // Not enough space in the buffer
             return false;
@@ -396,9 +480,15 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     private NetworkBuffer writeLeftover = null;
+    private final GatheringWriteBuffer gatheringBuffer = new GatheringWriteBuffer();
 
     public void flushSync() throws IOException {
         // Write leftover if any
+        final GatheringWriteBuffer gathering = this.gatheringBuffer;
+        if (!gathering.isEmpty() && !gathering.write(channel)) {
+            // Failed to write the whole batch, try again next flush
+            return;
+        }
         NetworkBuffer leftover = this.writeLeftover;
         if (leftover != null) {
             final boolean success = leftover.writeChannel(channel);
@@ -412,24 +502,28 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
         // Consume queued packets
         var packetQueue = this.packetQueue;
-        if (packetQueue.isEmpty()) {
-            try {
-                // Can probably be improved by waking up at the end of the tick
-                // But this work well enough and without additional state.
-                Thread.sleep(1000 / ServerFlag.SERVER_TICKS_PER_SECOND / 2);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        }
+        if (packetQueue.isEmpty()) awaitFlushSignal();
         if (!channel.isConnected()) throw new EOFException("Channel is closed");
-        NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
-        // Write to buffer
-        PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> {
-            final boolean compressed = sentPacketCounter.get() > compressionStart;
-            final boolean success = writeSendable(b, packet, compressed);
-            if (success) sentPacketCounter.getAndIncrement();
-            return success;
-        });
+        // Batch references to shared buffers, leftover is kept in the batch
+        final GatheringWriteBuffer gatheringTarget = gatheringWrite() ? gathering : null;
+        final NetworkBuffer buffer = gatheringTarget != null ? gathering.buffer() : PacketVanilla.PACKET_POOL.get();
+        this.segmentStages = outboundStages.get();
+        this.segmentStart = buffer.writeIndex();
+        if (compression()) this.compressionBuffer = PacketVanilla.PACKET_POOL.get();
+        try {
+            // Write to buffer
+            final long start = System.nanoTime();
+            PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> writeQueued(b, packet, gatheringTarget));
+            OutboundMetrics.record(OutboundMetrics.FRAMING, System.nanoTime() - start);
+        } finally {
+            releaseCompressionBuffer();
+        }
+        if (gatheringTarget != null) {
+            gathering.write(channel);
+            return;
+        }
+        // Process the whole flush at once
+        processSegment(buffer, buffer.writeIndex());
         // Write to channel
         final boolean success = buffer.writeChannel(channel);
         // Keep the buffer if not fully written
@@ -437,6 +531,73 @@ public class PlayerSocketConnection extends PlayerConnection {
         else this.writeLeftover = buffer;
     }
 
+    private boolean writeQueued(NetworkBuffer buffer, SendablePacket packet, @Nullable GatheringWriteBuffer gathering) {
+        if (gathering == null) {
+            final OutboundStage[] stages = this.outboundStages.get();
+            if (stages != segmentStages) {
+                // Stages changed during the flush, packets written from now on are processed by the new ones
+                final long index = buffer.writeIndex();
+                processSegment(buffer, index);
+                this.segmentStages = stages;
+                this.segmentStart = index;
+            }
+        }
+        final boolean compressed = sentPacketCounter.get() > compressionStart;
+        final boolean success = writePacketSync(buffer, packet, compressed, gathering);
+        // Referenced shared buffers are not copied into the buffer
+        assert !success || gathering != null || buffer.writeIndex() > 0;
+        if (success) sentPacketCounter.getAndIncrement();
+        return success;
+    }
+
+    private void processSegment(NetworkBuffer buffer, long end) {
+        final long start = this.segmentStart;
+        final long length = end - start;
+        if (length <= 0) return;
+        for (OutboundStage stage : segmentStages) {
+            final long time = System.nanoTime();
+            stage.process(buffer, start, length);
+            OutboundMetrics.record(stage.name(), System.nanoTime() - time);
+        }
+        this.segmentStart = end;
+    }
+
+    private void releaseCompressionBuffer() {
+        final NetworkBuffer compressionBuffer = this.compressionBuffer;
+        if (compressionBuffer != null) {
+            this.compressionBuffer = null;
+            PacketVanilla.PACKET_POOL.add(compressionBuffer);
+        }
+    }
+
+    private boolean gatheringWrite() {
+        // Shared buffers cannot be processed in place, and stages like encryption are enabled before the play state
+        return ServerFlag.GATHERING_WRITE && outboundStages.get().length == 0
+                && getConnectionState() == ConnectionState.PLAY;
+    }
+
+    private void awaitFlushSignal() {
+        this.writeThread = Thread.currentThread();
+        // A signal sent between this check and the park leaves a permit, the park then returns immediately
+        if (!flushRequested.getAndSet(false)) {
+            LockSupport.parkNanos(this, FLUSH_WAIT_TIMEOUT);
+            // Anything queued before a concurrent signal will be written by the caller
+            flushRequested.set(false);
+        }
+    }
+
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
     }
+
+    record EncryptionStage(Cipher cipher) implements OutboundStage {
+        @Override
+        public @NotNull String name() {
+            return "encryption";
+        }
+
+        @Override
+        public void process(@NotNull NetworkBuffer buffer, long index, long length) {
+            buffer.cipher(cipher, index, length);
+        }
+    }
 }
@@ -17,11 +17,14 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Server {
     private volatile boolean stop;
 
     private final PacketParser<ClientPacket> packetParser;
+    private final Set<PlayerSocketConnection> connections = ConcurrentHashMap.newKeySet();
 
     private ServerSocketChannel serverSocket;
     private SocketAddress socketAddress;
@@ -72,6 +75,7 @@ public final class Server {
                     final SocketChannel client = serverSocket.accept();
                     configureSocket(client);
                     PlayerSocketConnection connection = new PlayerSocketConnection(client, client.getRemoteAddress());
+                    connections.add(connection);
                     Thread.startVirtualThread(() -> playerReadLoop(connection));
                     Thread.startVirtualThread(() -> playerWriteLoop(connection));
                 } catch (AsynchronousCloseException ignored) {
@@ -113,6 +117,14 @@ public final class Server {
     }
 
     private void playerWriteLoop(PlayerSocketConnection connection) {
+        try {
+            writeLoop(connection);
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private void writeLoop(PlayerSocketConnection connection) {
         while (!stop) {
             try {
                 connection.flushSync();
@@ -141,12 +153,21 @@ public final class Server {
         }
     }
 
+    /**
+     * Wakes up the writer of every connection, called once all the packets of a tick have been queued.
+     */
+    @ApiStatus.Internal
+    public void signalFlush() {
+        for (PlayerSocketConnection connection : connections) connection.signalFlush();
+    }
+
     public boolean isOpen() {
         return !stop;
     }
 
     public void stop() {
         this.stop = true;
+        signalFlush();
         try {
             if (serverSocket != null) {
                 this.serverSocket.close();
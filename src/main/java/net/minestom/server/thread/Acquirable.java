@@ -59,8 +59,14 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
      * <p>
      * Useful when your code cannot be done inside a callback and need to be sync.
      * Do not forget to call {@link Acquired#unlock()} once you are done with it.
+     * <p>
+     * When called from a tick thread, its own elements may be acquired by other threads while waiting, as between
+     * the elements of a tick. Elements already acquired by the caller stay exclusive. Nested acquisitions should be
+     * avoided: when the element is held by a thread waiting for one of the caller's acquisitions, none of them
+     * could complete, and this one fails.
      *
      * @return an acquired object
+     * @throws IllegalStateException if the element is held by a thread waiting for one of the caller's acquisitions
      * @see #sync(Consumer) for auto-closeable capability
      */
     default @NotNull Acquired<T> lock() {
@@ -95,8 +101,10 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
      * Locks the acquirable element, execute {@code consumer} synchronously and unlock the thread.
      * <p>
      * Free if the element is already present in the current thread, blocking otherwise.
+     * Waits as described in {@link #lock()}.
      *
      * @param consumer the callback to execute once the element has been safely acquired
+     * @throws IllegalStateException if the element is held by a thread waiting for one of the caller's acquisitions
      */
     default void sync(@NotNull Consumer<T> consumer) {
         Acquired<T> acquired = lock();
@@ -107,6 +115,24 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
         }
     }
 
+    /**
+     * Executes {@code consumer} in the thread of the acquirable element, without blocking the caller.
+     * <p>
+     * The operation is queued and executed at the beginning of the next tick of the element thread, before its
+     * partitions are ticked. Operations posted by the same thread to elements of a single tick thread are executed in
+     * the order they were posted, no order is guaranteed between operations posted by different threads. At most
+     * {@link net.minestom.server.ServerFlag#DISPATCHER_POST_BUDGET} operations are executed per thread and tick,
+     * the remaining ones being delayed to the following ticks. Pending operations follow the element when it moves to
+     * another thread, in the same order; only an operation posted while the element is moving may be executed after the
+     * following ones, one tick later.
+     * <p>
+     * Executed immediately if the element is not assigned to any thread.
+     *
+     * @param consumer the callback to execute in the element thread
+     * @see #sync(Consumer) to execute the callback immediately
+     */
+    void post(@NotNull Consumer<T> consumer);
+
     /**
      * Unwrap the contained object unsafely.
      * <p>
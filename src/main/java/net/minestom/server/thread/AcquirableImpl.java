@@ -4,16 +4,25 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 final class AcquirableImpl<T> implements Acquirable<T> {
     static final AtomicLong WAIT_COUNTER_NANO = new AtomicLong();
 
-    /**
-     * Global lock used for synchronization.
-     */
-    private static final ReentrantLock GLOBAL_LOCK = new ReentrantLock();
+    // Locks of other tick threads held by the current thread
+    private static final ThreadLocal<HeldLocks> HELD_LOCKS = ThreadLocal.withInitial(HeldLocks::new);
+    // Serializes the out-of-order acquisitions nested in other acquisitions
+    private static final OwnedLock FALLBACK_LOCK = new OwnedLock();
+    // Lock awaited by each thread in #enter, to detect acquisitions waiting for each other
+    private static final Map<Thread, ReentrantLock> WAITING = new ConcurrentHashMap<>();
+    private static final long WAIT_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int MAX_WAIT_DEPTH = 16;
 
     private final T value;
     private TickThread assignedThread;
@@ -33,32 +42,63 @@ final class AcquirableImpl<T> implements Acquirable<T> {
         return assignedThread;
     }
 
+    @Override
+    public void post(@NotNull Consumer<T> consumer) {
+        final TickThread thread = assignedThread();
+        if (thread == null) {
+            // Not ticked, similar to #sync
+            consumer.accept(value);
+            return;
+        }
+        thread.post(new Post<>(this, consumer));
+    }
+
     void updateThread(@NotNull TickThread thread) {
         this.assignedThread = thread;
         VarHandle.releaseFence();
     }
 
+    /**
+     * Locks the thread of an element.
+     * <p>
+     * Tick thread locks are acquired by increasing {@link TickThread#order()}, so that no global lock is required to
+     * avoid deadlocks. A lower thread is first tried without waiting, otherwise the caller's own tick lock is released
+     * while waiting, as between the elements of a tick. Held acquisitions of higher threads are never released, the
+     * waits are then serialized by a fallback lock. When the requested lock is held by a thread waiting for one of them,
+     * which would never complete, the acquisition fails instead.
+     *
+     * @throws IllegalStateException if the lock is held by a thread waiting for one of the caller's acquisitions
+     */
     static @Nullable ReentrantLock enter(@NotNull Thread currentThread, @Nullable TickThread elementThread) {
         if (elementThread == null) return null;
         if (currentThread == elementThread) return null;
-        final ReentrantLock currentLock = currentThread instanceof TickThread ? ((TickThread) currentThread).lock() : null;
         final ReentrantLock targetLock = elementThread.lock();
         if (targetLock.isHeldByCurrentThread()) return null;
 
         // Monitoring
         final long time = System.nanoTime();
 
-        // Enter the target thread
-        // TODO reduce global lock scope
-        if (currentLock != null) {
-            while (!GLOBAL_LOCK.tryLock()) {
-                currentLock.unlock();
-                currentLock.lock();
+        final int order = elementThread.order();
+        final HeldLocks held = HELD_LOCKS.get();
+        final TickThread currentTickThread = currentThread instanceof TickThread tickThread &&
+                tickThread.lock().isHeldByCurrentThread() ? tickThread : null;
+        final boolean releaseOwn = currentTickThread != null && currentTickThread.order() > order;
+        final int index = held.insertionIndex(order);
+        if (index == held.size && !releaseOwn) {
+            // Already in order
+            lock(currentThread, targetLock);
+        } else if (!targetLock.tryLock()) {
+            if (index == held.size) {
+                // Only the own tick lock is higher
+                currentTickThread.lock().unlock();
+                lock(currentThread, targetLock);
+                currentTickThread.lock().lock();
+            } else if (!lockNested(currentThread, targetLock)) {
+                throw new IllegalStateException("Cannot acquire " + elementThread.getName() +
+                        ", its lock is held by a thread waiting for an acquisition of " + currentThread.getName());
             }
-        } else {
-            GLOBAL_LOCK.lock();
         }
-        targetLock.lock();
+        held.insert(index, elementThread);
 
         // Monitoring
         WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
@@ -67,8 +107,115 @@ final class AcquirableImpl<T> implements Acquirable<T> {
 
     static void leave(@Nullable ReentrantLock lock) {
         if (lock != null) {
+            HELD_LOCKS.get().remove(lock);
             lock.unlock();
-            GLOBAL_LOCK.unlock();
+        }
+    }
+
+    private static void lock(Thread currentThread, ReentrantLock lock) {
+        if (lock.tryLock()) return;
+        WAITING.put(currentThread, lock);
+        try {
+            lock.lock();
+        } finally {
+            WAITING.remove(currentThread);
+        }
+    }
+
+    /**
+     * Waits for a lower lock without releasing the held acquisitions.
+     *
+     * @return false if the lock owner waits for the current thread
+     */
+    private static boolean lockNested(Thread currentThread, ReentrantLock targetLock) {
+        if (!await(currentThread, FALLBACK_LOCK)) return false;
+        try {
+            return await(currentThread, targetLock);
+        } finally {
+            FALLBACK_LOCK.unlock();
+        }
+    }
+
+    private static boolean await(Thread currentThread, ReentrantLock lock) {
+        boolean interrupted = false;
+        WAITING.put(currentThread, lock);
+        try {
+            while (true) {
+                try {
+                    if (lock.tryLock(WAIT_POLL_NANOS, TimeUnit.NANOSECONDS)) return true;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                if (waitsFor(lock, currentThread)) return false;
+            }
+        } finally {
+            WAITING.remove(currentThread);
+            if (interrupted) currentThread.interrupt();
+        }
+    }
+
+    /**
+     * Follows the owners of the awaited locks, to find whether the owner of a lock waits for a thread.
+     */
+    private static boolean waitsFor(ReentrantLock lock, Thread thread) {
+        for (int i = 0; i < MAX_WAIT_DEPTH && lock != null; i++) {
+            final Thread owner = lock instanceof OwnedLock ownedLock ? ownedLock.owner() : null;
+            if (owner == null) return false;
+            if (owner == thread) return true;
+            lock = WAITING.get(owner);
+        }
+        return false;
+    }
+
+    record Post<T>(@NotNull AcquirableImpl<T> acquirable, @NotNull Consumer<T> consumer) {
+        void execute(@NotNull TickThread thread) {
+            final TickThread assignedThread = acquirable.assignedThread();
+            if (assignedThread != null && assignedThread != thread) {
+                // Posted to the previous thread while the element was moving
+                assignedThread.post(this);
+                return;
+            }
+            consumer.accept(acquirable.value);
+        }
+    }
+
+    /**
+     * Lock exposing its owner, to follow the acquisitions waiting for each other.
+     */
+    static final class OwnedLock extends ReentrantLock {
+        @Nullable Thread owner() {
+            return getOwner();
+        }
+    }
+
+    /**
+     * Tick threads whose lock is held, sorted by order.
+     */
+    private static final class HeldLocks {
+        private TickThread[] threads = new TickThread[4];
+        private int size;
+
+        int insertionIndex(int order) {
+            int index = size;
+            while (index > 0 && threads[index - 1].order() > order) index--;
+            return index;
+        }
+
+        void insert(int index, TickThread thread) {
+            if (size == threads.length) threads = Arrays.copyOf(threads, size * 2);
+            System.arraycopy(threads, index, threads, index + 1, size - index);
+            threads[index] = thread;
+            size++;
+        }
+
+        void remove(ReentrantLock lock) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (threads[i].lock() == lock) {
+                    System.arraycopy(threads, i + 1, threads, i, size - i - 1);
+                    threads[--size] = null;
+                    return;
+                }
+            }
         }
     }
 }
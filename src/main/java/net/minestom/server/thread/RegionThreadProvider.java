@@ -0,0 +1,105 @@
+package net.minestom.server.thread;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Groups chunks into regions ticked by a single thread, so that entities interacting with neighbouring chunks
+ * don't need to acquire each other.
+ * <p>
+ * Chunks are grouped into square cells of {@code 2^cellShift} chunks. Cells containing entities are merged with their
+ * neighbouring cells containing entities, regions are rebuilt once per refresh pass so that they merge and split as
+ * entities move, while all the partitions of a pass are assigned from the same build.
+ *
+ * @see ThreadProvider#regions(int)
+ */
+final class RegionThreadProvider implements ThreadProvider<Chunk> {
+    private final int cellShift;
+    private final Map<Instance, Regions> regions = new WeakHashMap<>();
+    private long pass;
+
+    RegionThreadProvider(int cellShift) {
+        this.cellShift = cellShift;
+    }
+
+    @Override
+    public synchronized void refreshStarted() {
+        this.pass++;
+    }
+
+    @Override
+    public synchronized int findThread(@NotNull Chunk partition) {
+        final Instance instance = partition.getInstance();
+        final Regions regions = this.regions.computeIfAbsent(instance, i -> new Regions());
+        // Built lazily, only for the instances refreshed during the pass
+        if (regions.pass != pass) {
+            regions.rebuild(instance);
+            regions.pass = pass;
+        }
+        final long cell = CoordConversion.chunkIndex(partition.getChunkX() >> cellShift, partition.getChunkZ() >> cellShift);
+        final long region = regions.find(cell);
+        return (int) HashCommon.mix(region + System.identityHashCode(instance)) & Integer.MAX_VALUE;
+    }
+
+    @Override
+    public @NotNull RefreshType refreshType() {
+        return RefreshType.ALWAYS;
+    }
+
+    private final class Regions {
+        // Cell containing entities -> parent cell, the root of a region is its lowest cell index
+        private final Long2LongOpenHashMap parents = new Long2LongOpenHashMap();
+        private long pass = -1;
+
+        void rebuild(Instance instance) {
+            parents.clear();
+            final EntityTracker tracker = instance.getEntityTracker();
+            for (Chunk chunk : instance.getChunks()) {
+                final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
+                if (tracker.chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES).isEmpty()) continue;
+                final long cell = CoordConversion.chunkIndex(chunkX >> cellShift, chunkZ >> cellShift);
+                parents.putIfAbsent(cell, cell);
+            }
+            for (long cell : parents.keySet().toLongArray()) {
+                final int cellX = CoordConversion.chunkIndexGetX(cell);
+                final int cellZ = CoordConversion.chunkIndexGetZ(cell);
+                for (int x = -1; x <= 1; x++) {
+                    for (int z = -1; z <= 1; z++) {
+                        if (x == 0 && z == 0) continue;
+                        final long neighbour = CoordConversion.chunkIndex(cellX + x, cellZ + z);
+                        if (parents.containsKey(neighbour)) union(cell, neighbour);
+                    }
+                }
+            }
+        }
+
+        long find(long cell) {
+            if (!parents.containsKey(cell)) return cell;
+            long parent = parents.get(cell);
+            while (parent != cell) {
+                // Path halving
+                final long grandParent = parents.get(parent);
+                parents.put(cell, grandParent);
+                cell = grandParent;
+                parent = parents.get(cell);
+            }
+            return cell;
+        }
+
+        private void union(long first, long second) {
+            final long firstRoot = find(first);
+            final long secondRoot = find(second);
+            if (firstRoot == secondRoot) return;
+            if (firstRoot < secondRoot) parents.put(secondRoot, firstRoot);
+            else parents.put(firstRoot, secondRoot);
+        }
+    }
+}
@@ -25,6 +25,9 @@ import java.util.function.IntFunction;
  * @see AcquirableSource
  */
 public final class ThreadDispatcher<P> {
+    // Partitions are only moved when the load gap is above 1/BALANCE_TOLERANCE of the most loaded thread
+    private static final int BALANCE_TOLERANCE = 8;
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
 
@@ -140,6 +143,7 @@ public final class ThreadDispatcher<P> {
                 // Do nothing
             }
             case ALWAYS -> {
+                provider.refreshStarted();
                 final long currentTime = System.nanoTime();
                 int counter = partitionUpdateQueue.size();
                 while (true) {
@@ -148,20 +152,84 @@ public final class ThreadDispatcher<P> {
                     // Update chunk's thread
                     Partition partitionEntry = partitions.get(partition);
                     assert partitionEntry != null;
-                    final TickThread previous = partitionEntry.thread;
                     final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries().remove(partitionEntry);
-                        next.entries().add(partitionEntry);
-                    }
+                    if (next != partitionEntry.thread) movePartition(partitionEntry, next);
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> balancePartitions(nanoTimeout);
+        }
+    }
+
+    /**
+     * Gets the load of each thread, as measured during the last tick.
+     * <p>
+     * Should be called between ticks, for example during {@link net.minestom.server.event.server.ServerTickMonitorEvent}.
+     *
+     * @return the load of each thread, in the order of {@link #threads()}
+     */
+    public @NotNull List<@NotNull ThreadLoad> threadLoads() {
+        List<ThreadLoad> loads = new ArrayList<>(threads.size());
+        for (TickThread thread : threads) {
+            final Collection<Partition> entries = thread.entries();
+            int elements = 0;
+            long cost = 0;
+            for (Partition partition : entries) {
+                elements += partition.elements.size();
+                cost += partition.cost;
+            }
+            loads.add(new ThreadLoad(thread.getName(), entries.size(), elements, cost, thread.getTickNanos()));
+        }
+        return loads;
+    }
+
+    /**
+     * Moves partitions from the most loaded thread to the least loaded one, as long as it lowers the highest load.
+     */
+    private void balancePartitions(long nanoTimeout) {
+        final int count = threads.size();
+        if (count < 2) return;
+        final long startTime = System.nanoTime();
+        final long[] loads = new long[count];
+        for (int i = 0; i < count; i++) {
+            for (Partition partition : threads.get(i).entries()) loads[i] += partition.cost;
+        }
+        for (int move = 0; move < count; move++) {
+            int heaviest = 0, lightest = 0;
+            for (int i = 1; i < count; i++) {
+                if (loads[i] > loads[heaviest]) heaviest = i;
+                if (loads[i] < loads[lightest]) lightest = i;
+            }
+            final long gap = loads[heaviest] - loads[lightest];
+            if (gap <= loads[heaviest] / BALANCE_TOLERANCE) break;
+            // Costliest partition whose move doesn't make the least loaded thread the most loaded one
+            Partition candidate = null;
+            for (Partition partition : threads.get(heaviest).entries()) {
+                final long cost = partition.cost;
+                if (cost > 0 && cost < gap && (candidate == null || cost > candidate.cost)) candidate = partition;
+            }
+            if (candidate == null) break;
+            movePartition(candidate, threads.get(lightest));
+            loads[heaviest] -= candidate.cost;
+            loads[lightest] += candidate.cost;
+            if (System.nanoTime() - startTime >= nanoTimeout) break;
+        }
+    }
+
+    private void movePartition(Partition partition, TickThread next) {
+        final TickThread previous = partition.thread;
+        previous.entries().remove(partition);
+        next.entries().add(partition);
+        partition.thread = next;
+        for (Tickable element : partition.elements) {
+            if (element instanceof AcquirableSource<?> acquirableSource) {
+                ((AcquirableImpl<?>) acquirableSource.acquirable()).updateThread(next);
+            }
         }
+        previous.forwardPosts();
     }
 
     /**
@@ -263,6 +331,7 @@ public final class ThreadDispatcher<P> {
         Partition partitionEntry;
 
         partitionEntry = elements.get(tickable);
+        final TickThread previous = partitionEntry != null ? partitionEntry.thread : null;
         // Remove from previous list
         if (partitionEntry != null) {
             partitionEntry.elements.remove(tickable);
@@ -274,6 +343,7 @@ public final class ThreadDispatcher<P> {
             partitionEntry.elements.add(tickable);
             if (tickable instanceof AcquirableSource<?> acquirableSource) {
                 ((AcquirableImpl<?>) acquirableSource.acquirable()).updateThread(partitionEntry.thread());
+                if (previous != null && previous != partitionEntry.thread) previous.forwardPosts();
             }
         }
     }
@@ -284,11 +354,27 @@ public final class ThreadDispatcher<P> {
     public static final class Partition {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        // Smoothed tick duration in nanoseconds, written by the owning thread
+        private volatile long cost;
 
         private Partition(TickThread thread) {
             this.thread = thread;
         }
 
+        void recordCost(long nanos) {
+            final long cost = this.cost;
+            this.cost = cost + ((nanos - cost) >> 3);
+        }
+
+        /**
+         * The smoothed duration of the ticks of this partition.
+         *
+         * @return the tick cost in nanoseconds
+         */
+        public long cost() {
+            return cost;
+        }
+
         /**
          * The {@link TickThread} used by this partition.
          * <p>
@@ -311,6 +397,18 @@ public final class ThreadDispatcher<P> {
         }
     }
 
+    /**
+     * The load of a {@link TickThread} during the last tick.
+     *
+     * @param name       the name of the thread
+     * @param partitions the number of partitions ticked by the thread
+     * @param elements   the number of elements in these partitions
+     * @param cost       the sum of the {@link Partition#cost()} of these partitions, in nanoseconds
+     * @param tickNanos  the duration of the last tick of the thread, in nanoseconds
+     */
+    public record ThreadLoad(@NotNull String name, int partitions, int elements, long cost, long tickNanos) {
+    }
+
     @ApiStatus.Internal
     sealed interface DispatchUpdate<P> permits
             DispatchUpdate.PartitionLoad, DispatchUpdate.PartitionUnload,
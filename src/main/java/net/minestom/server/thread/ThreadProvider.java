@@ -1,5 +1,7 @@
 package net.minestom.server.thread;
 
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -19,6 +21,44 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider spreading partitions across threads by their measured tick duration.
+     * <p>
+     * Partitions are first assigned in a round-robin fashion, then moved from the most loaded threads to the least
+     * loaded ones between ticks.
+     *
+     * @see RefreshType#BALANCED
+     */
+    static <T> @NotNull ThreadProvider<T> balanced() {
+        return new ThreadProvider<>() {
+            private final AtomicInteger counter = new AtomicInteger();
+
+            @Override
+            public int findThread(@NotNull T partition) {
+                return counter.getAndIncrement();
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
+    /**
+     * Creates a provider ticking neighbouring chunks containing entities on the same thread.
+     * <p>
+     * Chunks are grouped in cells of {@code 2^cellShift} by {@code 2^cellShift} chunks, cells containing entities are
+     * merged with their neighbours containing entities into regions pinned to a single thread. Regions are rebuilt
+     * at every refresh pass, merging and splitting as entities move, so that most acquisitions happen within the same thread.
+     *
+     * @param cellShift the size of the cells, as a power of two in chunks
+     */
+    static @NotNull ThreadProvider<Chunk> regions(int cellShift) {
+        Check.argCondition(cellShift < 0 || cellShift > 16, "Invalid cell shift: " + cellShift);
+        return new RegionThreadProvider(cellShift);
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -26,6 +66,15 @@ public interface ThreadProvider<T> {
      */
     int findThread(@NotNull T partition);
 
+    /**
+     * Called by the dispatcher before each refresh pass, i.e. before {@link #findThread(Object)} is called again for
+     * the partitions to refresh.
+     * <p>
+     * Lets providers compute the state shared by the partitions once per pass.
+     */
+    default void refreshStarted() {
+    }
+
     /**
      * Defines how often chunks thread should be updated.
      *
@@ -50,6 +99,13 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Thread is updated based on the measured tick duration of the partitions.
+         * <p>
+         * Means that {@link #findThread(Object)} will only be called once for each partition, partitions are then
+         * moved to the least loaded threads.
+         */
+        BALANCED
     }
 }
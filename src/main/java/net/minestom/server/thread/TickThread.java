@@ -1,17 +1,24 @@
 package net.minestom.server.thread;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.utils.PacketViewableUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -22,13 +29,23 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @ApiStatus.Internal
 public final class TickThread extends MinestomThread {
-    private final ReentrantLock lock = new ReentrantLock();
+    private static final AtomicInteger ORDER_COUNTER = new AtomicInteger();
+
+    // Order in which the locks of tick threads are acquired
+    private final int order = ORDER_COUNTER.getAndIncrement();
+    private final ReentrantLock lock = new AcquirableImpl.OwnedLock();
     private volatile boolean stop;
 
     private CountDownLatch latch;
     private long tickTime;
     private long tickNum = 0;
+    private volatile long tickNanos;
     private final List<ThreadDispatcher.Partition> entries = new ArrayList<>();
+    private final PacketViewableUtils.Shard viewableShard = new PacketViewableUtils.Shard();
+    // Operations posted to the elements of this thread, see Acquirable#post
+    private final MessagePassingQueue<AcquirableImpl.Post<?>> posts = new MpscUnboundedArrayQueue<>(256);
+    // Posted operations taken from #posts but not executed yet, only accessed by its consumer
+    private final ArrayDeque<AcquirableImpl.Post<?>> pendingPosts = new ArrayDeque<>();
 
     public TickThread(int number) {
         super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
@@ -64,10 +81,26 @@ public final class TickThread extends MinestomThread {
     private void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = this.tickTime;
+        final long tickStart = System.nanoTime();
+        // Posted operations, the remaining ones are executed next tick
+        this.posts.drain(pendingPosts::add);
+        for (int i = 0; i < ServerFlag.DISPATCHER_POST_BUDGET; i++) {
+            final AcquirableImpl.Post<?> post = pendingPosts.poll();
+            if (post == null) break;
+            try {
+                post.execute(this);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        long partitionStart = System.nanoTime();
         for (ThreadDispatcher.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                entry.recordCost(0);
+                continue;
+            }
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
@@ -80,12 +113,19 @@ public final class TickThread extends MinestomThread {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
             }
+            final long partitionEnd = System.nanoTime();
+            entry.recordCost(partitionEnd - partitionStart);
+            partitionStart = partitionEnd;
         }
+        // Flush viewable packets prepared by the partitions of this thread
+        viewableShard.flush();
+        this.tickNanos = System.nanoTime() - tickStart;
     }
 
     void startTick(CountDownLatch latch, long tickTime) {
-        if (stop || entries.isEmpty()) {
+        if (stop || (entries.isEmpty() && posts.isEmpty() && pendingPosts.isEmpty())) {
             // Nothing to tick
+            this.tickNanos = 0;
             latch.countDown();
             return;
         }
@@ -109,10 +149,56 @@ public final class TickThread extends MinestomThread {
         return lock;
     }
 
+    void post(AcquirableImpl.Post<?> post) {
+        this.posts.relaxedOffer(post);
+    }
+
+    /**
+     * Moves the pending operations posted to elements now assigned to another thread to that thread,
+     * after the operations already pending there, so that the operations of an element keep their order.
+     * <p>
+     * Must only be called between ticks, by the dispatcher moving the elements.
+     */
+    void forwardPosts() {
+        this.posts.drain(pendingPosts::add);
+        if (pendingPosts.isEmpty()) return;
+        final Iterator<AcquirableImpl.Post<?>> iterator = pendingPosts.iterator();
+        while (iterator.hasNext()) {
+            final AcquirableImpl.Post<?> post = iterator.next();
+            final TickThread thread = post.acquirable().assignedThread();
+            if (thread == null || thread == this) continue;
+            iterator.remove();
+            thread.posts.drain(thread.pendingPosts::add);
+            thread.pendingPosts.add(post);
+        }
+    }
+
+    int order() {
+        return order;
+    }
+
+    /**
+     * Gets the viewable packets prepared by this thread, flushed at the end of each tick.
+     *
+     * @return the viewable packets storage of this thread
+     */
+    public @NotNull PacketViewableUtils.Shard viewableShard() {
+        return viewableShard;
+    }
+
     public long getTick() {
         return tickNum;
     }
 
+    /**
+     * Gets the duration of the last tick of this thread, including the packets flush.
+     *
+     * @return the last tick duration in nanoseconds
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
     void shutdown() {
         this.stop = true;
         LockSupport.unpark(this);
@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.Viewable;
@@ -16,18 +17,24 @@ import net.minestom.server.network.packet.server.BufferedPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.thread.TickThread;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
+import java.util.ArrayDeque;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @ApiStatus.Internal
 public final class PacketViewableUtils {
-    // Viewable packets
-    private static volatile Map<Viewable, ViewableStorage> storageMap = new WeakHashMap<>();
+    // Shards of the other threads preparing packets for viewables not owned by a tick thread, see #shard
+    private static final Set<Shard> THREAD_SHARDS = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<Shard> THREAD_SHARD = ThreadLocal.withInitial(Shard::new);
+    // Bytes aggregated since the last call to #resetAggregatedBytes()
+    private static final LongAdder AGGREGATED_BYTES = new LongAdder();
 
     public static void prepareViewablePacket(@NotNull Viewable viewable, @NotNull ServerPacket serverPacket,
                                              @Nullable Entity entity) {
@@ -41,39 +48,96 @@ public final class PacketViewableUtils {
             return;
         }
         final Player exception = entity instanceof Player ? (Player) entity : null;
-        ViewableStorage storage = retrieveStorage(viewable);
-        storage.append(serverPacket, exception);
+        shard(viewable, entity).append(viewable, serverPacket, exception);
     }
 
-    private static ViewableStorage retrieveStorage(Viewable viewable) {
-        Map<Viewable, ViewableStorage> map = storageMap;
-        ViewableStorage storage = map.get(viewable);
-        if (storage == null) {
-            synchronized (PacketViewableUtils.class) {
-                map = storageMap;
-                storage = map.get(viewable);
-                if (storage == null) {
-                    storage = new ViewableStorage();
-                    map = new WeakHashMap<>(map);
-                    map.put(viewable, storage);
-                    storageMap = map;
-                }
-            }
+    /**
+     * Flushes the packets appended to the tick thread shards after the end of their tick,
+     * then the packets prepared by the other threads.
+     */
+    public static void flush() {
+        if (!ServerFlag.VIEWABLE_PACKET) return;
+        for (TickThread thread : MinecraftServer.process().dispatcher().threads()) {
+            thread.viewableShard().flush();
         }
-        return storage;
+        for (Shard shard : THREAD_SHARDS) shard.flush();
     }
 
-    public static void flush() {
-        if (!ServerFlag.VIEWABLE_PACKET) return;
-        Map<Viewable, ViewableStorage> map = storageMap;
-        map.entrySet().parallelStream().forEach(entry ->
-                entry.getValue().process(entry.getKey()));
+    /**
+     * Gets the shard storing the packets of a viewable.
+     * <p>
+     * Packets of an entity go to the shard of the thread owning it, so that they are kept in a single ordered storage
+     * whichever thread prepares them. Other viewables (e.g. instances) go to the shard of the calling thread, their
+     * packets are only ordered per preparing thread. Packets of different viewables were never ordered between them.
+     */
+    private static Shard shard(Viewable viewable, @Nullable Entity entity) {
+        if (entity == null && viewable instanceof Entity viewableEntity) entity = viewableEntity;
+        final TickThread owner = entity != null ? entity.acquirable().assignedThread() : null;
+        if (owner != null) return owner.viewableShard();
+        final TickThread current = TickThread.current();
+        return current != null ? current.viewableShard() : THREAD_SHARD.get();
     }
 
     public static void prepareViewablePacket(@NotNull Viewable viewable, @NotNull ServerPacket serverPacket) {
         prepareViewablePacket(viewable, serverPacket, null);
     }
 
+    /**
+     * Gets the number of bytes aggregated into viewable buffers since the last call, and resets it.
+     *
+     * @return the aggregated bytes
+     */
+    public static long resetAggregatedBytes() {
+        return AGGREGATED_BYTES.sumThenReset();
+    }
+
+    /**
+     * Viewable storages of the entities owned by a single tick thread, or prepared by a single other thread.
+     * <p>
+     * Storages only live until the next flush, after which they are recycled for the next viewables.
+     */
+    @ApiStatus.Internal
+    public static final class Shard {
+        private static final int MAX_FREE_STORAGES = 256;
+
+        private final Reference2ObjectOpenHashMap<Viewable, ViewableStorage> storages = new Reference2ObjectOpenHashMap<>();
+        private final ArrayDeque<ViewableStorage> freeStorages = new ArrayDeque<>();
+        // Whether the shard of a non-tick thread is in THREAD_SHARDS, removed once empty so that dead threads are dropped
+        private boolean registered;
+
+        private synchronized void append(Viewable viewable, ServerPacket serverPacket, @Nullable Player exception) {
+            if (!registered && this == THREAD_SHARD.get()) {
+                this.registered = true;
+                THREAD_SHARDS.add(this);
+            }
+            ViewableStorage storage = storages.get(viewable);
+            if (storage == null) {
+                storage = freeStorages.pollFirst();
+                if (storage == null) storage = new ViewableStorage();
+                storages.put(viewable, storage);
+            }
+            storage.append(serverPacket, exception);
+        }
+
+        public synchronized void flush() {
+            if (storages.isEmpty()) {
+                if (registered) {
+                    this.registered = false;
+                    THREAD_SHARDS.remove(this);
+                }
+                return;
+            }
+            long bytes = 0;
+            for (var entry : storages.reference2ObjectEntrySet()) {
+                final ViewableStorage storage = entry.getValue();
+                bytes += storage.process(entry.getKey());
+                if (freeStorages.size() < MAX_FREE_STORAGES) freeStorages.addLast(storage);
+            }
+            this.storages.clear();
+            AGGREGATED_BYTES.add(bytes);
+        }
+    }
+
     private static final class ViewableStorage {
         private static final ObjectPool<NetworkBuffer> POOL = ObjectPool.pool(
                 () -> NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
@@ -82,7 +146,7 @@ public final class PacketViewableUtils {
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
         private final NetworkBuffer buffer = POOL.getAndRegister(this);
 
-        private synchronized void append(ServerPacket serverPacket, @Nullable Player exception) {
+        private void append(ServerPacket serverPacket, @Nullable Player exception) {
             final long start = buffer.writeIndex();
             // Viewable storage is only used for play packets, so fine to assume this.
             PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, serverPacket, MinecraftServer.getCompressionThreshold());
@@ -94,13 +158,15 @@ public final class PacketViewableUtils {
             }
         }
 
-        private synchronized void process(Viewable viewable) {
-            if (buffer.writeIndex() == 0) return;
-            NetworkBuffer copy = buffer.copy(0, buffer.writeIndex());
+        private long process(Viewable viewable) {
+            final long length = buffer.writeIndex();
+            if (length == 0) return 0;
+            NetworkBuffer copy = buffer.copy(0, length);
             copy.readOnly();
             viewable.getViewers().forEach(player -> processPlayer(player, copy));
             this.buffer.clear();
             this.entityIdMap.clear();
+            return length;
         }
 
         private void processPlayer(Player player, NetworkBuffer buffer) {
@@ -2,7 +2,9 @@ package net.minestom.server.utils.chunk;
 
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.DynamicChunk;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -41,4 +43,27 @@ public final class ChunkCache implements Block.Getter {
             }
         } else return defaultBlock;
     }
+
+    /**
+     * Gets the collision occupancy of a block, without resolving the {@link Block} when the chunk supports it.
+     *
+     * @return one of the {@link Section} occupancy constants, {@link Section#OCCUPANCY_PARTIAL} when unknown
+     */
+    public byte collisionOccupancy(int x, int y, int z) {
+        Chunk chunk = this.chunk;
+        final int chunkX = CoordConversion.globalToChunk(x);
+        final int chunkZ = CoordConversion.globalToChunk(z);
+        if (chunk == null || !chunk.isLoaded() ||
+                chunk.getChunkX() != chunkX || chunk.getChunkZ() != chunkZ) {
+            this.chunk = chunk = this.instance.getChunk(chunkX, chunkZ);
+        }
+        if (chunk instanceof DynamicChunk dynamicChunk) {
+            synchronized (chunk) {
+                return dynamicChunk.collisionOccupancy(x, y, z);
+            }
+        } else if (chunk == null && defaultBlock != null) {
+            return Section.occupancy(defaultBlock.stateId());
+        }
+        return Section.OCCUPANCY_PARTIAL;
+    }
 }
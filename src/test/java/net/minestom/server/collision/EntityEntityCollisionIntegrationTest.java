@@ -55,4 +55,46 @@ public class EntityEntityCollisionIntegrationTest {
 
         assertEquals(2, result.size());
     }
+
+    @Test
+    public void entityFastCollisionTest(Env env) {
+        var instance = env.createFlatInstance();
+
+        for (int i = -2; i <= 2; ++i)
+            for (int j = -2; j <= 2; ++j)
+                instance.loadChunk(i, j).join();
+
+        var movingEntity = new Entity(EntityType.ZOMBIE);
+        var farEntity = new Entity(EntityType.ZOMBIE);
+        movingEntity.setInstance(instance, new Vec(0, 42, 0)).join();
+        farEntity.setInstance(instance, new Vec(0.5, 42, 25)).join();
+        // Within the velocity range but outside the swept volume
+        for (int i = 0; i < 10; ++i) {
+            new Entity(EntityType.ZOMBIE).setInstance(instance, new Vec(2, 42, i * 3)).join();
+        }
+
+        var result = CollisionUtils.checkEntityCollisions(movingEntity, new Vec(0, 0, 30), 1.51, entity -> entity != movingEntity, null);
+
+        assertEquals(1, result.size());
+        var collision = result.iterator().next();
+        assertEquals(farEntity, collision.entity());
+        assertEquals(24.4, collision.collisionPoint().z(), 0.01);
+    }
+
+    @Test
+    public void entityHeadHeightCollisionTest(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        var target = new Entity(EntityType.ZOMBIE);
+        target.setInstance(instance, new Vec(0.5, 42, 5)).join();
+
+        // Projectile at the top of the target box, further above its position than the search radius
+        var projectile = new BoundingBox(0.25, 0.25, 0.25);
+        var result = CollisionUtils.checkEntityCollisions(instance, projectile, new Vec(0.5, 43.6, 0), new Vec(0, 0, 10),
+                1.51, entity -> true, null);
+
+        assertEquals(1, result.size());
+        assertEquals(target, result.iterator().next().entity());
+    }
 }
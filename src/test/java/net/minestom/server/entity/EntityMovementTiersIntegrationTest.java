@@ -0,0 +1,103 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionSyncPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityMovementTiersIntegrationTest {
+
+    @Test
+    public void tierIndex() {
+        var tiers = new MovementTiers(16, new MovementTiers.Tier(32, 2), new MovementTiers.Tier(64, 5));
+        assertEquals(-1, tiers.tierIndex(15 * 15));
+        assertEquals(0, tiers.tierIndex(16 * 16));
+        assertEquals(0, tiers.tierIndex(31 * 31));
+        assertEquals(1, tiers.tierIndex(32 * 32));
+        // Farther than the last tier
+        assertEquals(1, tiers.tierIndex(500 * 500));
+
+        assertThrows(IllegalArgumentException.class, () -> new MovementTiers(16, new MovementTiers.Tier(8, 2)));
+        assertThrows(IllegalArgumentException.class, () -> new MovementTiers(16, new MovementTiers.Tier(32, 0)));
+    }
+
+    @Test
+    public void distantViewers(Env env) {
+        var instance = env.createFlatInstance();
+        var nearConnection = env.createConnection();
+        nearConnection.connect(instance, new Pos(0, 40, 4));
+        var farConnection = env.createConnection();
+        farConnection.connect(instance, new Pos(40, 40, 0));
+
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setMovementTiers(new MovementTiers(16, new MovementTiers.Tier(80, 5)));
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        entity.setSynchronizationTicks(1000);
+        entity.synchronizeNextTick();
+        env.tick();
+
+        var nearTracker = nearConnection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var farTracker = farConnection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var farSyncTracker = farConnection.trackIncoming(EntityPositionSyncPacket.class);
+        for (int i = 1; i <= 10; i++) {
+            entity.refreshPosition(new Pos(0.1 * i, 40, 0));
+            env.tick();
+        }
+        nearTracker.assertCount(10);
+        farTracker.assertEmpty();
+        // Merged into one absolute update every 5 ticks
+        farSyncTracker.assertCount(2);
+    }
+
+    @Test
+    public void viewerEnteringNearTier(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(40, 40, 0));
+
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setMovementTiers(new MovementTiers(16, new MovementTiers.Tier(80, 1000)));
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        entity.setSynchronizationTicks(1000);
+        entity.synchronizeNextTick();
+        env.tick();
+        // Movements skipped by the distant tier
+        for (int i = 1; i <= 3; i++) {
+            entity.refreshPosition(new Pos(0.1 * i, 40, 0));
+            env.tick();
+        }
+
+        var relativeTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var syncTracker = connection.trackIncoming(EntityPositionSyncPacket.class);
+        player.refreshPosition(new Pos(4, 40, 0));
+        entity.refreshPosition(new Pos(0.4, 40, 0));
+        env.tick();
+        // Absolute position first, relative movements apply to a stale position otherwise
+        relativeTracker.assertEmpty();
+        syncTracker.assertSingle(packet -> assertTrue(packet.position().samePoint(new Pos(0.4, 40, 0))));
+
+        relativeTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        entity.refreshPosition(new Pos(0.5, 40, 0));
+        env.tick();
+        relativeTracker.assertCount(1);
+    }
+
+    @Test
+    public void typeDefault() {
+        var tiers = new MovementTiers(16, new MovementTiers.Tier(64, 4));
+        MovementTiers.setDefault(EntityType.COW, tiers);
+        try {
+            assertEquals(tiers, new Entity(EntityType.COW).getMovementTiers());
+            assertNull(new Entity(EntityType.PIG).getMovementTiers());
+        } finally {
+            MovementTiers.setDefault(EntityType.COW, null);
+        }
+    }
+}
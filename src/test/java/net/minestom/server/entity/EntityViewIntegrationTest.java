@@ -19,6 +19,25 @@ public class EntityViewIntegrationTest {
         assertEquals(0, entity.getViewers().size());
     }
 
+    @Test
+    public void viewerChanges(Env env) {
+        var instance = env.createFlatInstance();
+        ViewerChanges.resetAdditions();
+        ViewerChanges.resetRemovals();
+        var p1 = env.createPlayer(instance, new Pos(0, 42, 42));
+        var p2 = env.createPlayer(instance, new Pos(0, 42, 42));
+        // Each player views the other
+        assertEquals(2, ViewerChanges.resetAdditions());
+
+        // Changes already applied are not counted
+        p1.updateViewableRule();
+        assertEquals(0, ViewerChanges.resetAdditions());
+
+        p2.remove();
+        assertEquals(2, ViewerChanges.resetRemovals());
+        assertEquals(0, p1.getViewers().size());
+    }
+
     @Test
     public void emptyPlayer(Env env) {
         var instance = env.createFlatInstance();
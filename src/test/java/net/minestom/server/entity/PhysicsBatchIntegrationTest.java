@@ -0,0 +1,75 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.PhysicsResult;
+import net.minestom.server.collision.PhysicsUtils;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PhysicsBatchIntegrationTest {
+
+    @Test
+    public void sameAsRegularPath(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0.5, 60, 0.5)).join();
+        entity.setVelocity(new Vec(10, 5, 3));
+        env.tick();
+
+        boolean batched = false;
+        for (int i = 0; i < 100 && !entity.isOnGround(); i++) {
+            final Pos position = entity.getPosition();
+            PhysicsResult expected = PhysicsUtils.simulateMovement(position, entity.getVelocity().div(ServerFlag.SERVER_TICKS_PER_SECOND),
+                    entity.getBoundingBox(), instance.getWorldBorder(), new ChunkCache(instance, entity.getChunk(), Block.STONE),
+                    entity.getAerodynamics(), entity.hasNoGravity(), true, entity.isOnGround(), false, entity.previousPhysicsResult);
+            env.tick();
+            assertTrue(expected.newPosition().samePoint(entity.getPosition()), "tick " + i);
+            assertEquals(expected.newVelocity().mul(ServerFlag.SERVER_TICKS_PER_SECOND), entity.getVelocity());
+            batched |= entity.batchedPosition == position;
+        }
+        assertTrue(batched);
+        assertTrue(entity.isOnGround());
+        assertEquals(40, entity.getPosition().y(), 1e-6);
+    }
+
+    @Test
+    public void blockPlacedAfterBatch(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setInstance(instance, new Pos(0.5, 41, 0.5)).join();
+        entity.setVelocity(new Vec(ServerFlag.SERVER_TICKS_PER_SECOND, 0, 0));
+        env.tick();
+
+        // Run after the chunk batch, before the movement
+        final Pos position = entity.getPosition();
+        entity.scheduler().scheduleNextTick(() -> {
+            assertSame(position, entity.batchedPosition);
+            instance.setBlock(position.blockX() + 1, 41, position.blockZ(), Block.STONE);
+            instance.setBlock(position.blockX() + 1, 42, position.blockZ(), Block.STONE);
+        });
+        env.tick();
+        // Stopped against the placed blocks
+        assertEquals(position.blockX() + 1 - 0.3, entity.getPosition().x(), 1e-6);
+    }
+
+    @Test
+    public void customEntity(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE) {
+        };
+        entity.setInstance(instance, new Pos(0.5, 60, 0.5)).join();
+        entity.setVelocity(new Vec(0, 5, 0));
+        env.tick();
+        env.tick();
+        assertNull(entity.batchedPosition);
+    }
+}
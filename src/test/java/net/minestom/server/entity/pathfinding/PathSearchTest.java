@@ -0,0 +1,96 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Vec;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathSearchTest {
+
+    @Test
+    public void heapOrder() {
+        PathSearch search = PathSearch.acquire();
+        try {
+            Random random = new Random(0);
+            for (int i = 0; i < 1000; i++) {
+                // Costs closer than the previous comparator precision
+                search.enqueue(new PNode(i, 0, 0, random.nextInt(100) * 0.0001, random.nextDouble(), null));
+            }
+            double previous = -1;
+            int count = 0;
+            while (!search.isEmpty()) {
+                PNode node = search.dequeue();
+                assertTrue(node.g() + node.h() >= previous);
+                previous = node.g() + node.h();
+                count++;
+            }
+            assertEquals(1000, count);
+        } finally {
+            search.release();
+        }
+    }
+
+    @Test
+    public void closedSet() {
+        PathSearch search = PathSearch.acquire();
+        try {
+            var closed = search.closed();
+            assertTrue(closed.add(new PNode(0.5, 40, -3.5, 0, 0, null)));
+            assertFalse(closed.add(new PNode(0.2, 40.7, -3.1, 5, 5, null)));
+            assertTrue(closed.contains(new PNode(0.9, 40, -3.9, 0, 0, null)));
+            assertFalse(closed.contains(new PNode(0.5, 41, -3.5, 0, 0, null)));
+            assertFalse(closed.contains(new PNode(-0.5, 40, -3.5, 0, 0, null)));
+            assertEquals(1, closed.size());
+
+            // Iterated as nodes at the block corners
+            assertTrue(closed.add(new PNode(-2000.5, -60, 1500.5, 0, 0, null)));
+            Set<PNode> copy = new HashSet<>(closed);
+            assertEquals(2, copy.size());
+            assertTrue(copy.contains(new PNode(0, 40, -4, 0, 0, null)));
+            assertTrue(copy.contains(new PNode(-2001, -60, 1500, 0, 0, null)));
+            for (PNode node : closed) assertTrue(closed.contains(node));
+            assertTrue(closed.removeIf(node -> node.blockY() < 0));
+            assertEquals(1, closed.size());
+        } finally {
+            search.release();
+        }
+        // Released searches are cleared
+        PathSearch search2 = PathSearch.acquire();
+        try {
+            assertTrue(search2.closed().isEmpty());
+            assertTrue(search2.isEmpty());
+        } finally {
+            search2.release();
+        }
+    }
+
+    @Test
+    public void cache() {
+        PathCache cache = new PathCache(1, 60_000);
+        BoundingBox box = new BoundingBox(0.6, 1.95, 0.6);
+        var key = new PathCache.Key(null, PathSearch.blockKey(0, 40, 0), PathSearch.blockKey(5, 40, 0),
+                box, Object.class, 1, 50, 20);
+        var otherKey = new PathCache.Key(null, PathSearch.blockKey(0, 40, 0), PathSearch.blockKey(6, 40, 0),
+                box, Object.class, 1, 50, 20);
+        cache.put(key, List.of(new PNode(1.5, 40, 0.5, 1, 4, null), new PNode(5.2, 40, 0.3, 0, 0, null)),
+                PPath.State.COMPUTED);
+
+        PPath path = new PPath(50, 20, null);
+        assertEquals(PPath.State.COMPUTED, cache.fill(key, new Vec(5.8, 40, 0.9), path));
+        assertEquals(2, path.getNodes().size());
+        assertEquals(1.5, path.getNodes().getFirst().x());
+        // The last node is the requested target
+        assertEquals(5.8, path.getNodes().getLast().x());
+
+        // Least recently used entry is evicted
+        cache.put(otherKey, List.of(new PNode(1.5, 40, 0.5, 1, 4, null)), PPath.State.BEST_EFFORT);
+        assertEquals(1, cache.size());
+        assertNull(cache.fill(key, new Vec(5.8, 40, 0.9), new PPath(50, 20, null)));
+    }
+}
@@ -0,0 +1,71 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkAutosaveIntegrationTest {
+
+    @Test
+    public void onlyModifiedChunks(Env env) {
+        CountingLoader loader = new CountingLoader();
+        InstanceContainer instance = (InstanceContainer) env.createFlatInstance(loader);
+        for (int x = 0; x < 2; x++) {
+            for (int z = 0; z < 2; z++) instance.loadChunk(x, z).join();
+        }
+        ChunkAutosave autosave = instance.enableAutosave(1, Integer.MAX_VALUE);
+
+        // Generated chunks have never been saved
+        assertTrue(env.tickWhile(() -> autosave.savedChunks() < 4 || autosave.pendingChunks() > 0, Duration.ofSeconds(5)));
+        assertEquals(4, loader.saves.size());
+        assertFalse(autosave.isModified(instance.getChunk(0, 0)));
+
+        instance.setBlock(0, 50, 0, Block.STONE);
+        assertTrue(autosave.isModified(instance.getChunk(0, 0)));
+        assertTrue(env.tickWhile(() -> autosave.savedChunks() < 5 || autosave.pendingChunks() > 0, Duration.ofSeconds(5)));
+        env.tick();
+
+        assertEquals(2, loader.saves.get(CoordConversion.chunkIndex(0, 0)));
+        assertEquals(1, loader.saves.get(CoordConversion.chunkIndex(1, 1)));
+        assertEquals(5, autosave.savedChunks());
+    }
+
+    @Test
+    public void budget(Env env) {
+        CountingLoader loader = new CountingLoader();
+        InstanceContainer instance = (InstanceContainer) env.createFlatInstance(loader);
+        for (int x = 0; x < 4; x++) {
+            for (int z = 0; z < 4; z++) instance.loadChunk(x, z).join();
+        }
+        // Only enough budget for the first chunk
+        ChunkAutosave autosave = instance.enableAutosave(1, 1);
+        assertTrue(env.tickWhile(() -> autosave.savedChunks() < 1, Duration.ofSeconds(5)));
+        assertEquals(1, loader.saves.size());
+        assertEquals(15, autosave.pendingChunks());
+    }
+
+    private static final class CountingLoader implements IChunkLoader {
+        final Map<Long, Integer> saves = new ConcurrentHashMap<>();
+
+        @Override
+        public @Nullable Chunk loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            return null;
+        }
+
+        @Override
+        public void saveChunk(@NotNull Chunk chunk) {
+            saves.merge(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkGenerationSchedulerIntegrationTest {
+
+    @Test
+    public void boundedParallelism(Env env) throws InterruptedException {
+        InstanceContainer instance = env.process().instance().createInstanceContainer();
+        ChunkGenerationScheduler scheduler = instance.getGenerationScheduler();
+        scheduler.setParallelism(2);
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        instance.setGenerator(unit -> {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            unit.modifier().fillHeight(0, 1, Block.STONE);
+            current.decrementAndGet();
+        });
+
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = 0; x < 10; x++) futures.add(instance.loadChunk(x, 0));
+        assertEquals(2, scheduler.runningTasks());
+        assertEquals(8, scheduler.queueDepth());
+
+        release.countDown();
+        futures.forEach(CompletableFuture::join);
+        assertTrue(max.get() <= 2);
+        assertEquals(10, scheduler.completedRequests());
+        assertEquals(0, scheduler.queueDepth());
+    }
+
+    @Test
+    public void cancelledRequest(Env env) {
+        InstanceContainer instance = env.process().instance().createInstanceContainer();
+        ChunkGenerationScheduler scheduler = instance.getGenerationScheduler();
+        scheduler.setParallelism(1);
+
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Integer> generated = ConcurrentHashMap.newKeySet();
+        instance.setGenerator(unit -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            generated.add(unit.absoluteStart().chunkX());
+        });
+
+        CompletableFuture<Chunk> first = instance.loadChunk(0, 0);
+        CompletableFuture<Chunk> cancelled = instance.loadChunk(1, 0);
+        CompletableFuture<Chunk> shared1 = instance.loadChunk(2, 0);
+        CompletableFuture<Chunk> shared2 = instance.loadChunk(2, 0);
+        assertEquals(2, scheduler.queueDepth());
+
+        cancelled.cancel(false);
+        // Still requested by another caller
+        shared1.cancel(false);
+        assertEquals(1, scheduler.queueDepth());
+        assertEquals(1, scheduler.cancelledRequests());
+
+        release.countDown();
+        first.join();
+        assertNotNull(shared2.join());
+        assertEquals(Set.of(0, 2), generated);
+        assertNull(instance.getChunk(1, 0));
+    }
+}
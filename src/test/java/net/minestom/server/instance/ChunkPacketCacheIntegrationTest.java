@@ -0,0 +1,50 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@EnvTest
+public class ChunkPacketCacheIntegrationTest {
+
+    @Test
+    public void sectionInvalidation(Env env) {
+        var instance = env.createFlatInstance();
+        Chunk chunk = instance.loadChunk(0, 0).join();
+        final byte[] initial = chunkData(chunk);
+
+        instance.setBlock(1, 70, 1, Block.STONE);
+        instance.setBlock(2, -20, 3, Block.GLASS);
+        final byte[] updated = chunkData(chunk);
+        assertFalse(Arrays.equals(initial, updated));
+        // A copy has no cached section, and encodes all of them
+        assertArrayEquals(chunkData(chunk.copy(instance, 0, 0)), updated);
+    }
+
+    @Test
+    public void fullInvalidation(Env env) {
+        var instance = env.createFlatInstance();
+        Chunk chunk = instance.loadChunk(0, 0).join();
+        chunkData(chunk);
+
+        // Palettes modified directly require an explicit invalidation
+        chunk.getSectionAt(70).blockPalette().fill(Block.STONE.stateId());
+        chunk.invalidate();
+        assertArrayEquals(chunkData(chunk.copy(instance, 0, 0)), chunkData(chunk));
+    }
+
+    private static byte[] chunkData(Chunk chunk) {
+        final CachedPacket cachedPacket = (CachedPacket) chunk.getFullDataPacket();
+        final ChunkDataPacket packet = (ChunkDataPacket) cachedPacket.packet(ConnectionState.PLAY);
+        return packet.chunkData().data();
+    }
+}
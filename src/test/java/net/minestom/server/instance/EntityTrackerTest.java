@@ -246,4 +246,22 @@ public class EntityTrackerTest {
         assertThrows(Exception.class, () -> entities.add(new Entity(EntityType.ZOMBIE)));
         assertThrows(Exception.class, () -> chunkEntities.add(new Entity(EntityType.ZOMBIE)));
     }
+
+    @Test
+    public void box() {
+        EntityTracker tracker = EntityTracker.newTracker();
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        var ent3 = new Entity(EntityType.ZOMBIE);
+        var ent4 = new Entity(EntityType.ZOMBIE);
+        tracker.register(ent1, new Vec(0, 0, 0), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(-10, 5, 20), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent3, new Vec(-10, 50, 20), EntityTracker.Target.ENTITIES, null);
+        // Within the sphere around the box, outside of the box
+        tracker.register(ent4, new Vec(3, 5, 10), EntityTracker.Target.ENTITIES, null);
+
+        Set<Entity> entities = new HashSet<>();
+        tracker.entitiesInBox(new Vec(-10, 0, 0), new Vec(0, 10, 20), EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent2), entities);
+    }
 }
@@ -0,0 +1,123 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GridEntityTrackerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 16, 64})
+    public void sameAsChunkTracker(int cellSize) {
+        EntityTracker expected = EntityTracker.newTracker();
+        EntityTracker actual = EntityTracker.newGridTracker(cellSize);
+        Random random = new Random(cellSize);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Entity entity = new Entity(EntityType.ZOMBIE);
+            entities.add(entity);
+            Point point = randomPoint(random);
+            expected.register(entity, point, EntityTracker.Target.ENTITIES, null);
+            actual.register(entity, point, EntityTracker.Target.ENTITIES, null);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Entity entity = entities.get(random.nextInt(entities.size()));
+            Point point = randomPoint(random);
+            RecordingUpdate expectedUpdate = new RecordingUpdate();
+            RecordingUpdate actualUpdate = new RecordingUpdate();
+            expected.move(entity, point, EntityTracker.Target.ENTITIES, expectedUpdate);
+            actual.move(entity, point, EntityTracker.Target.ENTITIES, actualUpdate);
+            assertEquals(expectedUpdate.added, actualUpdate.added);
+            assertEquals(expectedUpdate.removed, actualUpdate.removed);
+
+            Point center = randomPoint(random);
+            double range = random.nextDouble() * 40;
+            assertEquals(nearby(expected, center, range), nearby(actual, center, range));
+            assertEquals(chunkRange(expected, center, 2), chunkRange(actual, center, 2));
+            assertEquals(new HashSet<>(expected.chunkEntities(center, EntityTracker.Target.ENTITIES)),
+                    new HashSet<>(actual.chunkEntities(center, EntityTracker.Target.ENTITIES)));
+        }
+
+        for (Entity entity : entities.subList(0, 100)) {
+            expected.unregister(entity, EntityTracker.Target.ENTITIES, null);
+            actual.unregister(entity, EntityTracker.Target.ENTITIES, null);
+        }
+        assertEquals(expected.entities(), actual.entities());
+        assertEquals(chunkRange(expected, Vec.ZERO, 10), chunkRange(actual, Vec.ZERO, 10));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 16})
+    public void box(int cellSize) {
+        EntityTracker tracker = EntityTracker.newGridTracker(cellSize);
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        var ent3 = new Entity(EntityType.ZOMBIE);
+        tracker.register(ent1, new Vec(0, 0, 0), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(-10, 5, 20), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent3, new Vec(-10, 50, 20), EntityTracker.Target.ENTITIES, null);
+
+        Set<Entity> entities = new HashSet<>();
+        tracker.entitiesInBox(new Vec(-10, 0, 0), new Vec(0, 10, 20), EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent2), entities);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 16})
+    public void nestedQuery(int cellSize) {
+        EntityTracker tracker = EntityTracker.newGridTracker(cellSize);
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        tracker.register(ent1, new Vec(0, 0, 0), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(2, 0, 0), EntityTracker.Target.ENTITIES, null);
+
+        // Consumers can query and modify the tracker
+        List<Entity> pairs = new ArrayList<>();
+        tracker.nearbyEntities(Vec.ZERO, 5, EntityTracker.Target.ENTITIES, entity -> {
+            tracker.nearbyEntities(Vec.ZERO, 5, EntityTracker.Target.ENTITIES, pairs::add);
+            tracker.move(entity, new Vec(100, 0, 0), EntityTracker.Target.ENTITIES, null);
+        });
+        assertEquals(3, pairs.size());
+        assertTrue(tracker.chunkEntities(Vec.ZERO, EntityTracker.Target.ENTITIES).isEmpty());
+    }
+
+    private static Point randomPoint(Random random) {
+        return new Vec(random.nextDouble() * 160 - 80, random.nextDouble() * 20, random.nextDouble() * 160 - 80);
+    }
+
+    private static Set<Entity> nearby(EntityTracker tracker, Point point, double range) {
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntities(point, range, EntityTracker.Target.ENTITIES, entity -> assertTrue(entities.add(entity)));
+        return entities;
+    }
+
+    private static Set<Entity> chunkRange(EntityTracker tracker, Point point, int range) {
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntitiesByChunkRange(point, range, EntityTracker.Target.ENTITIES, entity -> assertTrue(entities.add(entity)));
+        return entities;
+    }
+
+    private static final class RecordingUpdate implements EntityTracker.Update<Entity> {
+        final Set<Entity> added = new HashSet<>();
+        final Set<Entity> removed = new HashSet<>();
+
+        @Override
+        public void add(@NotNull Entity entity) {
+            added.add(entity);
+        }
+
+        @Override
+        public void remove(@NotNull Entity entity) {
+            removed.add(entity);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static net.minestom.server.instance.Section.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class SectionOccupancyIntegrationTest {
+
+    @Test
+    public void states() {
+        assertEquals(OCCUPANCY_EMPTY, Section.occupancy(Block.AIR.stateId()));
+        assertEquals(OCCUPANCY_EMPTY, Section.occupancy(Block.SHORT_GRASS.stateId()));
+        assertEquals(OCCUPANCY_FULL, Section.occupancy(Block.STONE.stateId()));
+        assertEquals(OCCUPANCY_PARTIAL, Section.occupancy(Block.OAK_FENCE.stateId()));
+        assertEquals(OCCUPANCY_PARTIAL, Section.occupancy(Block.OAK_STAIRS.stateId()));
+        assertEquals(OCCUPANCY_PARTIAL, Section.occupancy(Block.STONE_SLAB.stateId()));
+    }
+
+    @Test
+    public void blockChanges(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var chunk = (DynamicChunk) instance.getChunk(0, 0);
+        synchronized (chunk) {
+            assertEquals(OCCUPANCY_FULL, chunk.collisionOccupancy(0, 39, 0));
+            assertEquals(OCCUPANCY_EMPTY, chunk.collisionOccupancy(0, 40, 0));
+            // Outside the world
+            assertEquals(OCCUPANCY_EMPTY, chunk.collisionOccupancy(0, 10_000, 0));
+        }
+
+        // Updated by the block changes once built
+        instance.setBlock(0, 40, 0, Block.OAK_FENCE);
+        instance.setBlock(0, 39, 0, Block.AIR);
+        instance.setBlock(1, 40, 0, Block.DIAMOND_BLOCK);
+        synchronized (chunk) {
+            assertEquals(OCCUPANCY_PARTIAL, chunk.collisionOccupancy(0, 40, 0));
+            assertEquals(OCCUPANCY_EMPTY, chunk.collisionOccupancy(0, 39, 0));
+            assertEquals(OCCUPANCY_FULL, chunk.collisionOccupancy(1, 40, 0));
+        }
+
+        // Rebuilt after bulk changes
+        chunk.reset();
+        synchronized (chunk) {
+            assertEquals(OCCUPANCY_EMPTY, chunk.collisionOccupancy(1, 40, 0));
+            assertEquals(OCCUPANCY_EMPTY, chunk.collisionOccupancy(0, 0, 0));
+        }
+    }
+}
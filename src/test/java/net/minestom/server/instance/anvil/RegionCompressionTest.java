@@ -0,0 +1,70 @@
+package net.minestom.server.instance.anvil;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionCompressionTest {
+
+    @Test
+    public void lz4Missing() throws Exception {
+        // Load RegionCompression again from a loader hiding lz4-java
+        final ClassLoader loader = new WithoutLz4ClassLoader(RegionCompressionTest.class.getClassLoader());
+        final Class<?> type = Class.forName(RegionCompression.class.getName(), true, loader);
+        final Object lz4 = type.getMethod("valueOf", String.class).invoke(null, "LZ4");
+
+        final Method compress = type.getDeclaredMethod("compress", OutputStream.class);
+        compress.setAccessible(true);
+        var e = assertThrows(InvocationTargetException.class, () -> compress.invoke(lz4, new ByteArrayOutputStream()));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        final Method decompress = type.getDeclaredMethod("decompress", InputStream.class);
+        decompress.setAccessible(true);
+        e = assertThrows(InvocationTargetException.class, () -> decompress.invoke(lz4, InputStream.nullInputStream()));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        // Other compressions are unaffected
+        final Object zlib = type.getMethod("valueOf", String.class).invoke(null, "ZLIB");
+        assertInstanceOf(OutputStream.class, compress.invoke(zlib, new ByteArrayOutputStream()));
+    }
+
+    private static final class WithoutLz4ClassLoader extends ClassLoader {
+        private final ClassLoader parent;
+
+        WithoutLz4ClassLoader(ClassLoader parent) {
+            super(null);
+            this.parent = parent;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                if (name.startsWith("net.jpountz.")) throw new ClassNotFoundException(name);
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    type = name.startsWith(RegionCompression.class.getName())
+                            ? defineFrom(name) : parent.loadClass(name);
+                }
+                if (resolve) resolveClass(type);
+                return type;
+            }
+        }
+
+        private Class<?> defineFrom(String name) throws ClassNotFoundException {
+            try (InputStream input = parent.getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (input == null) throw new ClassNotFoundException(name);
+                final byte[] bytes = input.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
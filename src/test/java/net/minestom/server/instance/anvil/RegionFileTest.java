@@ -0,0 +1,51 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionFileTest {
+
+    @ParameterizedTest
+    @EnumSource(RegionCompression.class)
+    public void roundTrip(RegionCompression compression, @TempDir Path directory) throws Exception {
+        final Path path = directory.resolve(RegionFile.getFileName(0, 0));
+        final CompoundBinaryTag data = CompoundBinaryTag.builder()
+                .putString("status", "minecraft:full")
+                .putLongArray("data", new long[512])
+                .build();
+        try (RegionFile regionFile = new RegionFile(path, compression)) {
+            assertFalse(regionFile.hasChunkData(3, 7));
+            regionFile.writeChunkData(3, 7, data);
+            assertEquals(data, regionFile.readChunkData(3, 7));
+        }
+        // Reopen with another compression, reads rely on the stored type
+        try (RegionFile regionFile = new RegionFile(path, RegionCompression.ZLIB)) {
+            assertTrue(regionFile.hasChunkData(3, 7));
+            assertEquals(data, regionFile.readChunkData(3, 7));
+            assertNull(regionFile.readChunkData(4, 7));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RegionCompression.class)
+    public void rewriteReusesSectors(RegionCompression compression, @TempDir Path directory) throws Exception {
+        final Path path = directory.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path, compression)) {
+            for (int i = 0; i < 10; i++) {
+                final CompoundBinaryTag data = CompoundBinaryTag.builder().putInt("version", i).build();
+                regionFile.writeChunkData(0, 0, data);
+                regionFile.writeChunkData(1, 0, data);
+                assertEquals(data, regionFile.readChunkData(0, 0));
+                assertEquals(data, regionFile.readChunkData(1, 0));
+            }
+        }
+        // Header (2 sectors) + 2 chunks, freed sectors are reused
+        assertTrue(path.toFile().length() <= 5 * 4096, "Region file grew: " + path.toFile().length());
+    }
+}
@@ -0,0 +1,75 @@
+package net.minestom.server.instance.light;
+
+import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class LightComputeVectorTest {
+    private static final Block[] BLOCKS = {
+            Block.STONE, Block.GLASS, Block.OAK_SLAB, Block.OAK_STAIRS, Block.OAK_LEAVES, Block.WATER, Block.GLOWSTONE
+    };
+
+    @BeforeEach
+    public void vectorAvailable() {
+        assumeTrue(LightCompute.VECTOR != null, "Vector API unavailable");
+    }
+
+    @Test
+    public void skyFallThrough() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            Palette palette = randomPalette(random, random.nextFloat() * 0.5f);
+            int[] heightmap = new int[16 * 16];
+            for (int j = 0; j < heightmap.length; j++) heightmap[j] = random.nextInt(20);
+            assertEquivalent(palette, () -> SkyLight.buildInternalQueue(heightmap, 15, 0));
+        }
+    }
+
+    @Test
+    public void openSky() {
+        Palette palette = Palette.blocks();
+        assertEquivalent(palette, () -> SkyLight.buildInternalQueue(new int[16 * 16], 15, 0));
+    }
+
+    @Test
+    public void blockSources() {
+        Random random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            Palette palette = randomPalette(random, random.nextFloat() * 0.3f);
+            assertEquivalent(palette, () -> BlockLight.buildInternalQueue(palette));
+        }
+    }
+
+    @Test
+    public void bake() {
+        Random random = new Random(3);
+        for (int i = 0; i < 20; i++) {
+            byte[] content1 = new byte[LightCompute.LIGHT_LENGTH];
+            byte[] content2 = new byte[LightCompute.LIGHT_LENGTH];
+            random.nextBytes(content1);
+            random.nextBytes(content2);
+            assertArrayEquals(LightCompute.bakeScalar(content1, content2), LightCompute.VECTOR.bake(content1, content2));
+        }
+    }
+
+    private static void assertEquivalent(Palette palette, Supplier<ShortArrayFIFOQueue> queue) {
+        final byte[] expected = LightCompute.computeScalar(palette, queue.get());
+        final byte[] actual = LightCompute.VECTOR.compute(palette, queue.get());
+        assertArrayEquals(expected, actual);
+    }
+
+    private static Palette randomPalette(Random random, float density) {
+        Palette palette = Palette.blocks();
+        palette.setAll((x, y, z) -> random.nextFloat() < density ?
+                BLOCKS[random.nextInt(BLOCKS.length)].stateId() : Block.AIR.stateId());
+        return palette;
+    }
+}
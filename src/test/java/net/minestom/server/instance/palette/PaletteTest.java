@@ -285,6 +285,48 @@ public class PaletteTest {
         assertDoesNotThrow(() -> Palette.newPalette(16, 5, 3));
     }
 
+    @Test
+    public void loadPacked() {
+        // Indirect layout (4 and 8 bits), and too many values for an indirect palette
+        for (int paletteSize : new int[]{2, 16, 200, 1000}) {
+            final int bitsPerEntry = Math.max(4, 32 - Integer.numberOfLeadingZeros(paletteSize - 1));
+            int[] paletteValues = new int[paletteSize];
+            for (int i = 0; i < paletteSize; i++) paletteValues[i] = i * 7;
+            int[] indices = new int[4096];
+            for (int i = 0; i < indices.length; i++) indices[i] = (i * 31) % paletteSize;
+
+            Palette palette = Palette.blocks();
+            palette.load(paletteValues, Palettes.pack(indices, bitsPerEntry));
+            int count = 0;
+            for (int i = 0; i < indices.length; i++) {
+                final int value = paletteValues[indices[i]];
+                assertEquals(value, palette.get(i & 0xF, i >> 8, (i >> 4) & 0xF));
+                if (value != 0) count++;
+            }
+            assertEquals(count, palette.count());
+        }
+    }
+
+    @Test
+    public void loadPackedBiomes() {
+        int[] paletteValues = {3, 5, 8, 13, 21};
+        int[] indices = new int[64];
+        for (int i = 0; i < indices.length; i++) indices[i] = i % paletteValues.length;
+        Palette palette = Palette.biomes();
+        palette.load(paletteValues, Palettes.pack(indices, 3));
+        for (int i = 0; i < indices.length; i++) {
+            assertEquals(paletteValues[indices[i]], palette.get(i & 0x3, i >> 4, (i >> 2) & 0x3));
+        }
+    }
+
+    @Test
+    public void loadPackedInvalid() {
+        int[] indices = new int[4096];
+        indices[10] = 5;
+        assertThrows(IllegalArgumentException.class, () -> Palette.blocks().load(new int[]{0, 1}, Palettes.pack(indices, 4)));
+        assertThrows(IllegalArgumentException.class, () -> Palette.blocks().load(new int[]{0, 1}, new long[3]));
+    }
+
     private static List<Palette> testPalettes() {
         return List.of(
                 Palette.newPalette(2, 5, 3),
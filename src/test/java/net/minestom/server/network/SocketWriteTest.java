@@ -1,16 +1,32 @@
 package net.minestom.server.network;
 
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
 import net.minestom.server.network.packet.PacketVanilla;
 import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.LazyPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.PluginMessagePacket;
+import net.minestom.server.network.player.OutboundStage;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import static net.minestom.server.network.NetworkBuffer.INT;
 import static net.minestom.server.network.NetworkBuffer.STRING;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SocketWriteTest {
 
@@ -92,6 +108,149 @@ public class SocketWriteTest {
         assertEquals((3 + 3 + 1 + 4) * 2, buffer.writeIndex(), "Invalid buffer position");
     }
 
+    @Test
+    public void writeCompressedWithBuffer() {
+        var packet = new PluginMessagePacket("minestom:test", "Hello world!".repeat(200).getBytes(StandardCharsets.UTF_8));
+
+        var expected = PacketVanilla.PACKET_POOL.get();
+        PacketWriting.writeFramedPacket(expected, ConnectionState.PLAY, packet, 256);
+
+        // Smaller than the packet, resized on demand
+        var compressionBuffer = NetworkBuffer.staticBuffer(16);
+        var buffer = PacketVanilla.PACKET_POOL.get();
+        PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 256, compressionBuffer);
+        PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 256, compressionBuffer);
+
+        assertEquals(expected.writeIndex() * 2, buffer.writeIndex(), "Invalid buffer position");
+        for (long i = 0; i < expected.writeIndex(); i++) {
+            assertEquals(expected.readAt(i, NetworkBuffer.BYTE), buffer.readAt(i, NetworkBuffer.BYTE));
+            assertEquals(expected.readAt(i, NetworkBuffer.BYTE), buffer.readAt(expected.writeIndex() + i, NetworkBuffer.BYTE));
+        }
+    }
+
+    @Test
+    public void flushStageOnce() throws IOException {
+        var stage = new RecordingStage();
+        var packets = List.of(
+                new PluginMessagePacket("minestom:first", new byte[]{1, 2, 3}),
+                new PluginMessagePacket("minestom:second", "Hello world!".getBytes(StandardCharsets.UTF_8)),
+                new PluginMessagePacket("minestom:third", new byte[0]));
+        try (var pair = SocketPair.open()) {
+            var connection = pair.connection();
+            connection.addOutboundStage(stage);
+            packets.forEach(connection::sendPacket);
+            connection.flushSync();
+
+            var expected = framed(packets);
+            // A single call for the whole flush
+            assertEquals(1, stage.calls.size());
+            assertEquals(expected.length, stage.calls.getFirst()[1]);
+            assertArrayEquals(expected, pair.read(expected.length));
+        }
+    }
+
+    @Test
+    public void flushEncryption() throws IOException {
+        var key = new SecretKeySpec("0123456789abcdef".getBytes(StandardCharsets.UTF_8), "AES");
+        var packets = List.of(
+                new PluginMessagePacket("minestom:first", new byte[]{1, 2, 3}),
+                new PluginMessagePacket("minestom:second", "Hello world!".repeat(50).getBytes(StandardCharsets.UTF_8)),
+                new PluginMessagePacket("minestom:third", new byte[0]));
+        try (var pair = SocketPair.open()) {
+            var connection = pair.connection();
+            connection.setEncryptionKey(key);
+            packets.forEach(connection::sendPacket);
+            connection.flushSync();
+
+            // Encrypting the flush at once must match encrypting every packet in turn, the cipher is a stream
+            var cipher = MojangCrypt.getCipher(1, key);
+            var expected = new ByteArrayOutputStream();
+            for (var packet : packets) expected.writeBytes(cipher.update(framed(List.of(packet))));
+            assertArrayEquals(expected.toByteArray(), pair.read(expected.size()));
+        }
+    }
+
+    @Test
+    public void stageAddedDuringFlush() throws IOException {
+        var first = new RecordingStage();
+        var second = new RecordingStage();
+        var packets = List.of(
+                new PluginMessagePacket("minestom:first", new byte[]{1, 2, 3}),
+                new PluginMessagePacket("minestom:second", new byte[]{4, 5}),
+                new PluginMessagePacket("minestom:third", new byte[]{6}));
+        try (var pair = SocketPair.open()) {
+            var connection = pair.connection();
+            connection.addOutboundStage(first);
+            connection.sendPacket(packets.get(0));
+            // Added while the flush writes the second packet, applies from the third one
+            connection.sendPacket(new LazyPacket(() -> {
+                connection.addOutboundStage(second);
+                return packets.get(1);
+            }));
+            connection.sendPacket(packets.get(2));
+            connection.flushSync();
+
+            final long before = framed(packets.subList(0, 2)).length;
+            final long after = framed(packets.subList(2, 3)).length;
+            assertEquals(2, first.calls.size());
+            final long start = first.calls.get(0)[0];
+            assertArrayEquals(new long[]{start, before}, first.calls.get(0));
+            assertArrayEquals(new long[]{start + before, after}, first.calls.get(1));
+            assertEquals(1, second.calls.size());
+            assertArrayEquals(new long[]{start + before, after}, second.calls.getFirst());
+            assertArrayEquals(framed(packets), pair.read((int) (before + after)));
+        }
+    }
+
+    private static byte[] framed(List<? extends ServerPacket> packets) {
+        var buffer = NetworkBuffer.resizableBuffer();
+        for (var packet : packets) PacketWriting.writeFramedPacket(buffer, ConnectionState.CONFIGURATION, packet, 0);
+        return buffer.read(NetworkBuffer.RAW_BYTES);
+    }
+
+    static final class RecordingStage implements OutboundStage {
+        final List<long[]> calls = new ArrayList<>();
+
+        @Override
+        public @NotNull String name() {
+            return "recording";
+        }
+
+        @Override
+        public void process(@NotNull NetworkBuffer buffer, long index, long length) {
+            calls.add(new long[]{index, length});
+        }
+    }
+
+    record SocketPair(PlayerSocketConnection connection, SocketChannel client) implements AutoCloseable {
+        static SocketPair open() throws IOException {
+            MinecraftServer.updateProcess();
+            try (var server = ServerSocketChannel.open()) {
+                server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+                var client = SocketChannel.open(server.getLocalAddress());
+                var connection = new PlayerSocketConnection(server.accept(), client.getLocalAddress());
+                // Written on every packet, without gathering
+                connection.setConnectionState(ConnectionState.CONFIGURATION);
+                return new SocketPair(connection, client);
+            }
+        }
+
+        byte[] read(int length) throws IOException {
+            var buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (client.read(buffer) == -1) break;
+            }
+            assertFalse(buffer.hasRemaining(), "Missing bytes");
+            return buffer.array();
+        }
+
+        @Override
+        public void close() throws IOException {
+            connection.getChannel().close();
+            client.close();
+        }
+    }
+
     private static int getVarIntSize(int input) {
         return (input & 0xFFFFFF80) == 0
                 ? 1 : (input & 0xFFFFC000) == 0
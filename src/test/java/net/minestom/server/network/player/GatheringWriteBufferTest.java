@@ -0,0 +1,113 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.NetworkBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GatheringWriteBufferTest {
+
+    @Test
+    public void orderPreserved() throws Exception {
+        var shared = sharedBuffer(GatheringWriteBuffer.COPY_THRESHOLD * 2, (byte) 7);
+        var gathering = new GatheringWriteBuffer();
+
+        gathering.buffer().write(NetworkBuffer.BYTE, (byte) 1);
+        assertTrue(gathering.addShared(shared, 0, shared.capacity()));
+        gathering.buffer().write(NetworkBuffer.BYTE, (byte) 2);
+
+        var channel = new CollectingChannel(Integer.MAX_VALUE);
+        assertTrue(gathering.write(channel));
+        assertTrue(gathering.isEmpty());
+
+        byte[] bytes = channel.output.toByteArray();
+        assertEquals(shared.capacity() + 2, bytes.length);
+        assertEquals(1, bytes[0]);
+        assertEquals(7, bytes[1]);
+        assertEquals(7, bytes[bytes.length - 2]);
+        assertEquals(2, bytes[bytes.length - 1]);
+        assertEquals(shared.capacity(), gathering.referencedBytes());
+        assertEquals(0, gathering.copiedBytes());
+    }
+
+    @Test
+    public void smallRegionCopied() throws Exception {
+        var shared = sharedBuffer(8, (byte) 3);
+        var gathering = new GatheringWriteBuffer();
+
+        assertTrue(gathering.addShared(shared, 0, shared.capacity()));
+        var channel = new CollectingChannel(Integer.MAX_VALUE);
+        assertTrue(gathering.write(channel));
+
+        assertEquals(8, channel.output.size());
+        assertEquals(8, gathering.copiedBytes());
+        assertEquals(0, gathering.referencedBytes());
+    }
+
+    @Test
+    public void partialWrite() throws Exception {
+        final int size = GatheringWriteBuffer.COPY_THRESHOLD * 4;
+        var shared = sharedBuffer(size, (byte) 5);
+        var gathering = new GatheringWriteBuffer();
+        assertTrue(gathering.addShared(shared, 0, size));
+
+        var channel = new CollectingChannel(size / 2);
+        assertFalse(gathering.write(channel));
+        assertFalse(gathering.isEmpty());
+        assertTrue(gathering.write(channel));
+        assertTrue(gathering.isEmpty());
+        assertEquals(size, channel.output.size());
+    }
+
+    private static NetworkBuffer sharedBuffer(int size, byte value) {
+        var buffer = NetworkBuffer.staticBuffer(size);
+        for (int i = 0; i < size; i++) buffer.write(NetworkBuffer.BYTE, value);
+        buffer.readOnly();
+        return buffer;
+    }
+
+    private static final class CollectingChannel implements GatheringByteChannel {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final int maxPerWrite;
+
+        CollectingChannel(int maxPerWrite) {
+            this.maxPerWrite = maxPerWrite;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int i = offset; i < offset + length && written < maxPerWrite; i++) {
+                ByteBuffer src = srcs[i];
+                while (src.hasRemaining() && written < maxPerWrite) {
+                    output.write(src.get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            return (int) write(new ByteBuffer[]{src});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MovementCoalescingTest {
+
+    @Test
+    public void latestPosition() {
+        ClientPacket merged = MovementCoalescing.merge(
+                new ClientPlayerPositionPacket(new Vec(1, 40, 1), true, false),
+                new ClientPlayerPositionPacket(new Vec(2, 41, 2), false, false));
+        assertEquals(new ClientPlayerPositionPacket(new Vec(2, 41, 2), false, false), merged);
+    }
+
+    @Test
+    public void positionAndRotation() {
+        ClientPacket merged = MovementCoalescing.merge(
+                new ClientPlayerPositionPacket(new Vec(1, 40, 1), false, true),
+                new ClientPlayerRotationPacket(90, 10, true, false));
+        // Horizontal collision is kept from any packet, on ground from the latest
+        assertEquals(new ClientPlayerPositionAndRotationPacket(new Pos(1, 40, 1, 90, 10), true, true), merged);
+
+        merged = MovementCoalescing.merge(merged, new ClientPlayerPositionPacket(new Vec(3, 40, 3), false, false));
+        assertEquals(new ClientPlayerPositionAndRotationPacket(new Pos(3, 40, 3, 90, 10), false, true), merged);
+    }
+
+    @Test
+    public void status() {
+        ClientPacket merged = MovementCoalescing.merge(
+                new ClientPlayerPositionStatusPacket(false, false),
+                new ClientPlayerPositionStatusPacket(true, false));
+        assertEquals(new ClientPlayerPositionStatusPacket(true, false), merged);
+
+        merged = MovementCoalescing.merge(new ClientPlayerRotationPacket(45, 0, false, false), merged);
+        assertEquals(new ClientPlayerRotationPacket(45, 0, true, false), merged);
+    }
+
+    @Test
+    public void onGroundChange() {
+        assertTrue(MovementCoalescing.canMerge(
+                new ClientPlayerPositionPacket(new Vec(1, 40, 1), true, false),
+                new ClientPlayerRotationPacket(90, 10, true, true)));
+        assertTrue(MovementCoalescing.canMerge(
+                new ClientPlayerPositionPacket(new Vec(1, 41, 1), false, true),
+                new ClientPlayerPositionPacket(new Vec(1, 42, 1), false, false)));
+        // Landing and jumping are kept apart
+        assertFalse(MovementCoalescing.canMerge(
+                new ClientPlayerPositionPacket(new Vec(1, 41, 1), false, false),
+                new ClientPlayerPositionPacket(new Vec(1, 40, 1), true, false)));
+        assertFalse(MovementCoalescing.canMerge(
+                new ClientPlayerPositionStatusPacket(true, false),
+                new ClientPlayerPositionAndRotationPacket(new Pos(1, 41, 1, 0, 0), false, false)));
+    }
+
+    @Test
+    public void movementPackets() {
+        assertTrue(MovementCoalescing.isMovement(new ClientPlayerPositionStatusPacket(true, false)));
+        assertFalse(MovementCoalescing.isMovement(new ClientTeleportConfirmPacket(1)));
+    }
+}
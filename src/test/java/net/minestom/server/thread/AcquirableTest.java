@@ -1,13 +1,15 @@
 package net.minestom.server.thread;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class AcquirableTest {
 
@@ -41,4 +43,93 @@ public class AcquirableTest {
 
         assertNotEquals(firstThread, secondThread);
     }
+
+    @Test
+    public void post() {
+        List<Integer> executed = new ArrayList<>();
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        Entity entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public void tick(long time) {
+                // Posted operations are executed before the partitions
+                executed.add(-1);
+            }
+        };
+        Object partition = new Object();
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 1);
+        dispatcher.createPartition(partition);
+        dispatcher.updateElement(entity, partition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        executed.clear();
+
+        final int budget = ServerFlag.DISPATCHER_POST_BUDGET;
+        for (int i = 0; i < budget + 10; i++) {
+            final int index = i;
+            entity.acquirable().post(e -> {
+                executingThread.set(Thread.currentThread());
+                executed.add(index);
+            });
+        }
+        assertTrue(executed.isEmpty());
+
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(budget + 1, executed.size());
+        assertEquals(-1, executed.getLast());
+        for (int i = 0; i < budget; i++) assertEquals(i, executed.get(i));
+        assertEquals(entity.acquirable().assignedThread(), executingThread.get());
+
+        // Remaining operations are executed the following tick
+        executed.clear();
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(11, executed.size());
+        for (int i = 0; i < 10; i++) assertEquals(budget + i, executed.get(i));
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void postMoved() {
+        List<Integer> executed = new ArrayList<>();
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        Entity entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public void tick(long time) {
+                executed.add(-1);
+            }
+        };
+        Object first = new Object();
+        Object second = new Object();
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 2);
+        dispatcher.createPartition(first);
+        dispatcher.createPartition(second);
+        dispatcher.updateElement(entity, first);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        final TickThread firstThread = entity.acquirable().assignedThread();
+
+        // Leave the last operation pending in the first thread
+        final int budget = ServerFlag.DISPATCHER_POST_BUDGET;
+        for (int i = 0; i <= budget; i++) {
+            final int index = i;
+            entity.acquirable().post(e -> {
+                executingThread.set(Thread.currentThread());
+                executed.add(index);
+            });
+        }
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        executed.clear();
+
+        // The pending operation follows the element, before its next tick
+        dispatcher.updateElement(entity, second);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        final TickThread secondThread = entity.acquirable().assignedThread();
+        assertNotEquals(firstThread, secondThread);
+        assertEquals(List.of(budget, -1), executed);
+        assertEquals(secondThread, executingThread.get());
+
+        // Then the operations posted after the move
+        executed.clear();
+        entity.acquirable().post(e -> executed.add(budget + 1));
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(List.of(budget + 1, -1), executed);
+        dispatcher.shutdown();
+    }
 }
@@ -0,0 +1,50 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class RegionThreadProviderIntegrationTest {
+
+    @Test
+    public void mergeAndSplit(Env env) {
+        var instance = env.createFlatInstance();
+        for (int x = 0; x < 4; x++) instance.loadChunk(x, 0).join();
+        var provider = new RegionThreadProvider(0);
+
+        var entity1 = new Entity(EntityType.ZOMBIE);
+        entity1.setInstance(instance, new Pos(8, 40, 8)).join();
+        var entity2 = new Entity(EntityType.ZOMBIE);
+        entity2.setInstance(instance, new Pos(24, 40, 8)).join();
+        var entity3 = new Entity(EntityType.ZOMBIE);
+        entity3.setInstance(instance, new Pos(40, 40, 8)).join();
+
+        // Chunks 0, 1 and 2 form a single region
+        final int region = provider.findThread(instance.getChunk(0, 0));
+        assertEquals(region, provider.findThread(instance.getChunk(1, 0)));
+        assertEquals(region, provider.findThread(instance.getChunk(2, 0)));
+
+        // Removing the middle entity splits the region at the next refresh pass
+        entity2.remove();
+        assertEquals(region, provider.findThread(instance.getChunk(2, 0)));
+        provider.refreshStarted();
+        assertNotEquals(provider.findThread(instance.getChunk(0, 0)), provider.findThread(instance.getChunk(2, 0)));
+        assertTrue(provider.findThread(instance.getChunk(3, 0)) >= 0);
+    }
+
+    @Test
+    public void cells(Env env) {
+        var instance = env.createFlatInstance();
+        for (int x = 0; x < 4; x++) instance.loadChunk(x, 0).join();
+        // Chunks 0-1 and 2-3 are in the same cells, with or without entities
+        var provider = new RegionThreadProvider(1);
+        assertEquals(provider.findThread(instance.getChunk(0, 0)), provider.findThread(instance.getChunk(1, 0)));
+        assertEquals(provider.findThread(instance.getChunk(2, 0)), provider.findThread(instance.getChunk(3, 0)));
+    }
+}
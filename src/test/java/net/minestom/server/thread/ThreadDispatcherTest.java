@@ -167,4 +167,37 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedThreads() {
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(ThreadProvider.balanced(), 2);
+        Map<Tickable, Thread> threads = new ConcurrentHashMap<>();
+        // Round-robin puts 3ms + 1ms on the first thread and 1ms + 1ms on the second
+        Tickable[] partitions = IntStream.of(3, 1, 1, 1).mapToObj(millis -> new Tickable() {
+            @Override
+            public void tick(long time) {
+                threads.put(this, Thread.currentThread());
+                final long end = System.nanoTime() + millis * 1_000_000L;
+                while (System.nanoTime() < end) Thread.onSpinWait();
+            }
+        }).toArray(Tickable[]::new);
+        for (Tickable partition : partitions) dispatcher.createPartition(partition);
+
+        for (int i = 0; i < 30; i++) {
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            dispatcher.refreshThreads();
+        }
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+
+        // A 1ms partition left the thread of the 3ms one
+        final Thread heavyThread = threads.get(partitions[0]);
+        assertEquals(1, Set.of(partitions).stream().filter(p -> threads.get(p) == heavyThread).count());
+
+        var loads = dispatcher.threadLoads();
+        assertEquals(2, loads.size());
+        assertEquals(4, loads.get(0).partitions() + loads.get(1).partitions());
+        for (var load : loads) assertTrue(load.cost() > 0);
+
+        dispatcher.shutdown();
+    }
 }
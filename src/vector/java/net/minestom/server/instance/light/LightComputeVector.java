@@ -0,0 +1,155 @@
+package net.minestom.server.instance.light;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.Direction;
+
+import java.util.Objects;
+
+import static net.minestom.server.instance.light.LightCompute.*;
+
+/**
+ * Light propagation using the incubating Vector API, one 16 blocks row per vector.
+ * <p>
+ * Instead of a breadth-first search, every row is repeatedly relaxed against its six neighbours until no level changes.
+ * As light decreases by one per block this converges in at most 15 sweeps, and reaches the same result as
+ * {@link LightCompute#computeScalar(Palette, ShortArrayFIFOQueue)}. This is faster when most of the section is lit,
+ * e.g. sky light falling through open columns.
+ * <p>
+ * Must only be loaded when the {@code jdk.incubator.vector} module is present, see {@link LightCompute#VECTOR}.
+ */
+final class LightComputeVector implements LightCompute.Kernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;
+    private static final ByteVector ZERO = ByteVector.zero(SPECIES);
+    private static final int VOLUME = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+    private static final int ROW = SECTION_SIZE;
+    private static final int PLANE = SECTION_SIZE * SECTION_SIZE;
+
+    static {
+        assert SPECIES.length() == SECTION_SIZE;
+    }
+
+    @Override
+    public byte[] compute(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
+        // One level per byte, same indexing as the nibble array
+        final byte[] levels = new byte[VOLUME];
+        while (!lightPre.isEmpty()) {
+            final int index = lightPre.dequeueShort();
+            final byte level = (byte) ((index >> 12) & 15);
+            final int blockIndex = index & 0xFFF;
+            if (levels[blockIndex] < level) levels[blockIndex] = level;
+        }
+
+        final byte[][] masks = propagationMasks(blockPalette);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int base = 0; base < VOLUME; base += ROW) {
+                final ByteVector row = ByteVector.fromArray(SPECIES, levels, base);
+                ByteVector result = row;
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    final ByteVector source = source(levels, row, base, DIRECTIONS[d]);
+                    if (source == null) continue;
+                    final ByteVector propagated = source.sub((byte) 1).max(ZERO)
+                            .and(ByteVector.fromArray(SPECIES, masks[d], base));
+                    result = result.max(propagated);
+                }
+                if (!result.eq(row).allTrue()) {
+                    result.intoArray(levels, base);
+                    changed = true;
+                }
+            }
+        }
+
+        final byte[] lightArray = new byte[LIGHT_LENGTH];
+        for (int i = 0; i < LIGHT_LENGTH; i++) {
+            lightArray[i] = (byte) (levels[i << 1] | (levels[(i << 1) | 1] << 4));
+        }
+        return lightArray;
+    }
+
+    @Override
+    public byte[] bake(byte[] content1, byte[] content2) {
+        final byte[] lightMax = new byte[LIGHT_LENGTH];
+        for (int i = 0; i < LIGHT_LENGTH; i += SPECIES.length()) {
+            final ByteVector c1 = ByteVector.fromArray(SPECIES, content1, i);
+            final ByteVector c2 = ByteVector.fromArray(SPECIES, content2, i);
+            final ByteVector lower = c1.and((byte) 0x0F).max(c2.and((byte) 0x0F));
+            final ByteVector upper = c1.lanewise(VectorOperators.LSHR, 4).max(c2.lanewise(VectorOperators.LSHR, 4));
+            lower.or(upper.lanewise(VectorOperators.LSHL, 4)).intoArray(lightMax, i);
+        }
+        return lightMax;
+    }
+
+    /**
+     * Gets the levels of the row from which light would come when propagating in the given direction.
+     *
+     * @return the source row, null if outside the section
+     */
+    private static ByteVector source(byte[] levels, ByteVector row, int base, Direction direction) {
+        final int z = (base / ROW) & 15, y = base / PLANE;
+        return switch (direction) {
+            // Lane x receives lane x - 1
+            case EAST -> ZERO.slice(SECTION_SIZE - 1, row);
+            // Lane x receives lane x + 1
+            case WEST -> row.slice(1, ZERO);
+            case SOUTH -> z > 0 ? ByteVector.fromArray(SPECIES, levels, base - ROW) : null;
+            case NORTH -> z < 15 ? ByteVector.fromArray(SPECIES, levels, base + ROW) : null;
+            case UP -> y > 0 ? ByteVector.fromArray(SPECIES, levels, base - PLANE) : null;
+            case DOWN -> y < 15 ? ByteVector.fromArray(SPECIES, levels, base + PLANE) : null;
+        };
+    }
+
+    /**
+     * Computes for each block and direction whether light can enter it from its neighbour, -1 if so and 0 otherwise.
+     * Uses the same occlusion rules as the scalar propagation.
+     */
+    private static byte[][] propagationMasks(Palette blockPalette) {
+        final int[] states = new int[VOLUME];
+        blockPalette.getAll((x, y, z, value) -> states[x | (z << 4) | (y << 8)] = value);
+
+        final byte[][] masks = new byte[DIRECTIONS.length][VOLUME];
+        // Palettes contain few states, cache the occlusion of each pair
+        final Long2ByteOpenHashMap cache = new Long2ByteOpenHashMap();
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            final Direction direction = DIRECTIONS[d];
+            final BlockFace face = BlockFace.fromDirection(direction);
+            final byte[] mask = masks[d];
+            for (int y = 0; y < SECTION_SIZE; y++) {
+                for (int z = 0; z < SECTION_SIZE; z++) {
+                    for (int x = 0; x < SECTION_SIZE; x++) {
+                        final int xF = x - direction.normalX();
+                        final int yF = y - direction.normalY();
+                        final int zF = z - direction.normalZ();
+                        if (xF < 0 || xF >= SECTION_SIZE || yF < 0 || yF >= SECTION_SIZE || zF < 0 || zF >= SECTION_SIZE) {
+                            continue;
+                        }
+                        final int from = states[xF | (zF << 4) | (yF << 8)];
+                        final int to = states[x | (z << 4) | (y << 8)];
+                        final long key = ((long) from << 32) | ((long) to << 3) | d;
+                        byte allowed = cache.getOrDefault(key, (byte) 1);
+                        if (allowed == 1) {
+                            allowed = canPropagate(from, to, face) ? (byte) -1 : 0;
+                            cache.put(key, allowed);
+                        }
+                        mask[x | (z << 4) | (y << 8)] = allowed;
+                    }
+                }
+            }
+        }
+        return masks;
+    }
+
+    private static boolean canPropagate(int fromState, int toState, BlockFace face) {
+        final Block currentBlock = Objects.requireNonNullElse(Block.fromStateId(fromState), Block.AIR);
+        final Block propagatedBlock = Objects.requireNonNullElse(Block.fromStateId(toState), Block.AIR);
+        final boolean airAir = currentBlock.isAir() && propagatedBlock.isAir();
+        return airAir || !currentBlock.registry().collisionShape().isOccluded(propagatedBlock.registry().collisionShape(), face);
+    }
+}